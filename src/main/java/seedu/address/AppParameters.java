@@ -18,6 +18,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path startupReportPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +28,17 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file to append the startup times to, or null if the app should not exit once started.
+     */
+    public Path getStartupReportPath() {
+        return startupReportPath;
+    }
+
+    public void setStartupReportPath(Path startupReportPath) {
+        this.startupReportPath = startupReportPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -41,6 +53,13 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String startupReportParameter = namedParameters.get("startup-report");
+        if (startupReportParameter != null && !FileUtil.isValidPath(startupReportParameter)) {
+            logger.warning("Invalid startup report path " + startupReportParameter + ". Starting normally.");
+            startupReportParameter = null;
+        }
+        appParameters.setStartupReportPath(startupReportParameter != null ? Paths.get(startupReportParameter) : null);
+
         return appParameters;
     }
 
@@ -56,18 +75,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(startupReportPath, otherAppParameters.startupReportPath);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, startupReportPath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("startupReportPath", startupReportPath)
                 .toString();
     }
 }
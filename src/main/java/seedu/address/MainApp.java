@@ -2,13 +2,22 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DataFileCompression;
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimer;
+import seedu.address.commons.core.StartupTimer.Milestone;
+import seedu.address.commons.core.StartupTimer.Phase;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
@@ -21,10 +30,15 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormatConverter;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AtomicAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -38,6 +52,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 6, 0, true);
 
+    /** Number of persons added to the model at a time while the address book is being loaded. */
+    private static final int LOAD_BATCH_SIZE = 2_000;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -46,35 +63,85 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private AppParameters appParameters;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing ConnectEd ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        long phaseStart = System.nanoTime();
+        appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        StartupTimer.record(Phase.CONFIG, phaseStart);
 
+        phaseStart = System.nanoTime();
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        StartupTimer.record(Phase.PREFS, phaseStart);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        // the address book is loaded in the background once the window is up; see #loadAddressBookInBackground()
+        model = new ModelManager(new AddressBook(), userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Duration.ofMillis(userPrefs.getSaveIntervalMillis()));
+        logic.startLoading();
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns the storage for the address book data file, in the format and mode chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        DataFileCompression compression = userPrefs.getAddressBookCompression();
+        if (userPrefs.isAddressBookJournaled() || userPrefs.isAddressBookSharded()) {
+            if (userPrefs.getAddressBookFormat() == DataFileFormat.JSON) {
+                if (userPrefs.isAddressBookSavedAtomically()) {
+                    logger.info("Journaled and sharded data files are saved in parts; ignoring atomic saves.");
+                }
+                if (userPrefs.isAddressBookJournaled() && userPrefs.isAddressBookSharded()) {
+                    logger.warning("Data files cannot be both journaled and sharded; journaling " + filePath + ".");
+                }
+                return userPrefs.isAddressBookJournaled() ? new JournaledAddressBookStorage(filePath, compression)
+                        : new ShardedAddressBookStorage(filePath, compression);
+            }
+            logger.warning("Only JSON data files can be journaled or sharded; saving " + filePath + " as one file.");
+        }
+        AddressBookStorage formatStorage;
+        if (userPrefs.getAddressBookFormat() == DataFileFormat.JSON) {
+            formatStorage = new JsonAddressBookStorage(filePath, compression);
+        } else {
+            if (compression != DataFileCompression.NONE) {
+                logger.info("Binary data files are already compact; saving " + filePath + " uncompressed.");
+            }
+            formatStorage = AddressBookFormatConverter.createStorage(userPrefs.getAddressBookFormat(), filePath);
+        }
+        return userPrefs.isAddressBookSavedAtomically() ? new AtomicAddressBookStorage(formatStorage) : formatStorage;
+    }
+
+    /**
+     * Returns the address book in {@code storage}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * A save that was interrupted, such as by a crash, is recovered first if {@code storage} can recover it.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyAddressBook readInitialAddressBook(Storage storage) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
+        try {
+            if (storage.recoverAddressBook()) {
+                logger.warning("Recovered data file " + storage.getAddressBookFilePath()
+                        + " from an interrupted save.");
+            }
+        } catch (IOException e) {
+            logger.warning("Could not recover data file " + storage.getAddressBookFilePath()
+                    + " from an interrupted save: " + StringUtil.getDetails(e));
+        }
+
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
@@ -90,7 +157,62 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
+    }
+
+    /**
+     * Reads the address book on a background thread, then adds its persons to the model in batches on the JavaFX
+     * application thread. The window stays responsive and the person list fills in batch by batch, while
+     * commands entered meanwhile are queued by {@code logic} until every batch has been added.
+     */
+    private void loadAddressBookInBackground() {
+        Thread loader = new Thread(() -> {
+            try {
+                long readStart = System.nanoTime();
+                List<Person> persons = readInitialAddressBook(storage).getPersonList();
+                StartupTimer.record(Phase.STORAGE_READ, readStart);
+                int totalCount = persons.size();
+                Platform.runLater(() -> ui.showLoadingProgress(0, totalCount));
+                for (int from = 0; from < totalCount; from += LOAD_BATCH_SIZE) {
+                    int to = Math.min(totalCount, from + LOAD_BATCH_SIZE);
+                    List<Person> batch = new ArrayList<>(persons.subList(from, to));
+                    Platform.runLater(() -> {
+                        long buildStart = System.nanoTime();
+                        logic.addLoadedPersons(batch);
+                        StartupTimer.record(Phase.MODEL_BUILD, buildStart);
+                        ui.showLoadingProgress(to, totalCount);
+                    });
+                }
+            } catch (RuntimeException e) {
+                // batches posted before the failure may already be in the model, so it must not be used as loaded
+                Platform.runLater(() -> logic.failLoading(e));
+            } finally {
+                Platform.runLater(this::finishStartup);
+            }
+        }, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Runs the commands queued while the address book was loading and reports the startup times. If a startup
+     * report was asked for, appends the times to it and exits, as the run was only made to measure startup.
+     */
+    private void finishStartup() {
+        ui.finishLoading();
+        StartupTimer.reach(Milestone.READY);
+        StartupTimer.logReport();
+
+        Path startupReportPath = appParameters.getStartupReportPath();
+        if (startupReportPath == null) {
+            return;
+        }
+        try {
+            StartupTimer.appendReport(startupReportPath);
+        } catch (IOException e) {
+            logger.warning("Could not write startup report " + startupReportPath + ": " + StringUtil.getDetails(e));
+        }
+        Platform.exit();
     }
 
     private void initLogging(Config config) {
@@ -172,11 +294,17 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting ConnectEd " + MainApp.VERSION);
         ui.start(primaryStage);
+        loadAddressBookInBackground();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping ConnectEd ] =============================");
+        try {
+            logic.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
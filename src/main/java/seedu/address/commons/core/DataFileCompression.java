@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The ways JSON data files can be compressed. Compressed files are gzip files, so standard tools can read them.
+ */
+public enum DataFileCompression {
+    /** Plain text, which can be read and edited in a text editor. */
+    NONE,
+    /** Deflate at its fastest level; most of the size saving at a small cost in saving time. */
+    FAST,
+    /** Deflate at its strongest level; the smallest files, but much slower to save. */
+    SMALL
+}
@@ -0,0 +1,16 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats the address book data file can be stored in.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, as written by {@code JsonAddressBookStorage}. */
+    JSON,
+    /** Compact binary snapshot, as written by {@code BinaryAddressBookStorage}; faster to load and save. */
+    BINARY,
+    /**
+     * The binary format, read by mapping the file into memory as {@code MappedAddressBookStorage} does, so that
+     * opening a large archived book is quick and each person is only decoded as it is first read.
+     */
+    MAPPED
+}
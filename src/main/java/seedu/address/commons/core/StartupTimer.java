@@ -0,0 +1,117 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Records how long each phase of startup takes and when the app reaches each milestone of startup, so that
+ * changes to startup, such as a class data sharing archive, can be measured.
+ * Phases may run on different threads, and a phase recorded more than once, such as one done in batches,
+ * adds up.
+ */
+public class StartupTimer {
+
+    /**
+     * A part of startup that is timed.
+     */
+    public enum Phase {
+        CONFIG, PREFS, STORAGE_READ, MODEL_BUILD, MAIN_WINDOW_FXML, PERSON_LIST_PANEL_FXML
+    }
+
+    /**
+     * A point reached during startup, timed from when the JVM started.
+     */
+    public enum Milestone {
+        WINDOW_SHOWN, READY
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(StartupTimer.class);
+
+    private static final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+    private static final Map<Milestone, Long> milestoneMillis = new EnumMap<>(Milestone.class);
+
+    /**
+     * Records that {@code phase} ran from {@code startNanos}, a value of {@link System#nanoTime()}, until now.
+     */
+    public static synchronized void record(Phase phase, long startNanos) {
+        requireNonNull(phase);
+        phaseNanos.merge(phase, System.nanoTime() - startNanos, Long::sum);
+    }
+
+    /**
+     * Records that startup has reached {@code milestone} now.
+     */
+    public static synchronized void reach(Milestone milestone) {
+        requireNonNull(milestone);
+        milestoneMillis.put(milestone, ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    /**
+     * Returns the milliseconds spent in {@code phase} so far.
+     */
+    public static synchronized long getPhaseMillis(Phase phase) {
+        return phaseNanos.getOrDefault(phase, 0L) / 1_000_000;
+    }
+
+    /**
+     * Returns the milliseconds from when the JVM started until {@code milestone} was reached, or -1 if it has not
+     * been reached.
+     */
+    public static synchronized long getMilestoneMillis(Milestone milestone) {
+        return milestoneMillis.getOrDefault(milestone, -1L);
+    }
+
+    /**
+     * Logs the time taken by each phase and milestone.
+     */
+    public static synchronized void logReport() {
+        StringBuilder report = new StringBuilder("Startup times (ms):");
+        for (Milestone milestone : Milestone.values()) {
+            report.append("\n  ").append(milestone).append(" after JVM start : ").append(getMilestoneMillis(milestone));
+        }
+        for (Phase phase : Phase.values()) {
+            report.append("\n  ").append(phase).append(" : ").append(getPhaseMillis(phase));
+        }
+        logger.info(report.toString());
+    }
+
+    /**
+     * Appends the time taken by each phase and milestone as one comma-separated line to {@code reportFile},
+     * starting the file with a header line if it does not exist yet.
+     */
+    public static synchronized void appendReport(Path reportFile) throws IOException {
+        requireNonNull(reportFile);
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(reportFile)) {
+            lines.append(Stream.concat(Stream.of(Milestone.values()), Stream.of(Phase.values()))
+                    .map(column -> column.name().toLowerCase() + "_ms")
+                    .collect(Collectors.joining(","))).append('\n');
+        }
+        lines.append(Stream.concat(
+                Stream.of(Milestone.values()).map(StartupTimer::getMilestoneMillis),
+                Stream.of(Phase.values()).map(StartupTimer::getPhaseMillis))
+                .map(String::valueOf)
+                .collect(Collectors.joining(","))).append('\n');
+        Files.writeString(reportFile, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Forgets all times recorded so far.
+     */
+    static synchronized void reset() {
+        phaseNanos.clear();
+        milestoneMillis.clear();
+    }
+}
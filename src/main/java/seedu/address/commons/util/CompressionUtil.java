@@ -0,0 +1,78 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.core.DataFileCompression;
+
+/**
+ * Compresses and decompresses data files as gzip streams.
+ * Compressed files are told apart from plain ones by the gzip magic number they start with, which no text file
+ * does, so files can be read without knowing how they were written.
+ */
+public class CompressionUtil {
+
+    private static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+    private static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Returns a stream that writes to {@code out}, compressed as chosen by {@code compression}.
+     * Closing the returned stream finishes the compressed data and closes {@code out}.
+     */
+    public static OutputStream compress(OutputStream out, DataFileCompression compression) throws IOException {
+        requireNonNull(out);
+        requireNonNull(compression);
+        switch (compression) {
+        case NONE:
+            return out;
+        case FAST:
+            return new LeveledGzipOutputStream(out, Deflater.BEST_SPEED);
+        case SMALL:
+            return new LeveledGzipOutputStream(out, Deflater.BEST_COMPRESSION);
+        default:
+            throw new AssertionError("Unknown compression " + compression);
+        }
+    }
+
+    /**
+     * Returns a stream that reads the content of {@code file}, decompressed if the file is compressed.
+     */
+    public static InputStream openInputStream(Path file) throws IOException {
+        requireNonNull(file);
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        in.mark(2);
+        boolean isCompressed = in.read() == GZIP_MAGIC_FIRST_BYTE && in.read() == GZIP_MAGIC_SECOND_BYTE;
+        in.reset();
+        return isCompressed ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+    }
+
+    /**
+     * Returns true if {@code file} is compressed.
+     */
+    public static boolean isCompressed(Path file) throws IOException {
+        requireNonNull(file);
+        try (InputStream in = Files.newInputStream(file)) {
+            return in.read() == GZIP_MAGIC_FIRST_BYTE && in.read() == GZIP_MAGIC_SECOND_BYTE;
+        }
+    }
+
+    /**
+     * A gzip stream that compresses at a chosen deflate level.
+     */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +25,36 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns true while the address book is being loaded. Commands executed meanwhile are queued instead.
+     */
+    boolean isLoading();
+
+    /**
+     * Marks the address book as being loaded, so that commands are queued until {@link #finishLoading()}.
+     */
+    void startLoading();
+
+    /**
+     * Adds {@code persons}, the next batch of the address book being loaded, to the end of the address book.
+     * If they cannot be added, loading fails as by {@link #failLoading(Exception)}, and later batches are ignored.
+     */
+    void addLoadedPersons(List<Person> persons);
+
+    /**
+     * Marks the address book as having failed to load. It then stays in loading mode for good, so that no command
+     * runs on what has been loaded so far and nothing is saved over the data file. Commands are refused instead.
+     */
+    void failLoading(Exception cause);
+
+    /**
+     * Marks the address book as loaded and returns the commands queued while it was being loaded, in the order
+     * they were entered, for the caller to execute.
+     *
+     * @throws CommandException if loading failed, in which case the address book stays in loading mode.
+     */
+    List<String> finishLoading() throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -30,6 +62,12 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the statistics of the persons in the address book, formatted for the stats window.
+     * They are kept up to date by the model, so this is cheap enough to call after every change.
+     */
+    String getStatisticsText();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -47,4 +85,10 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Saves any changes to the address book that have not been saved yet, and stops saving in the background.
+     * @throws IOException If the address book could not be saved.
+     */
+    void close() throws IOException;
 }
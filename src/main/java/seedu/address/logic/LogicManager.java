@@ -1,15 +1,24 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -17,6 +26,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -27,45 +37,175 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_COMMAND_QUEUED =
+            "Still loading the address book. \"%1$s\" will run as soon as it has loaded.";
+    public static final String MESSAGE_LOADING_FAILED = "Could not load the address book: %1$s\n"
+            + "Commands are disabled and nothing will be saved over the data file. "
+            + "Fix or move the data file, then restart ConnectEd.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final WriteBehindSaver saver;
+
+    /** Version of the address book last saved or queued for saving, or -1 if nothing has been saved yet. */
+    private long savedVersion = -1;
+    private long performedSaveCount;
+    private long skippedSaveCount;
+
+    private boolean isLoading;
+    /** Commands entered while the address book was being loaded, in order. */
+    private final List<String> queuedCommands = new ArrayList<>();
+    /** Message explaining why the address book could not be loaded, or null if it has not failed to load. */
+    private String loadingFailure;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, saving the address book
+     * after every command before returning.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Duration.ZERO);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, saving the address book
+     * in the background at most once every {@code saveInterval}. A zero interval saves after every command instead.
+     */
+    public LogicManager(Model model, Storage storage, Duration saveInterval) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        saver = saveInterval.isZero() ? null : new WriteBehindSaver(storage, saveInterval);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        if (loadingFailure != null) {
+            throw new CommandException(loadingFailure);
+        }
+        if (isLoading) {
+            queuedCommands.add(commandText);
+            return new CommandResult(String.format(MESSAGE_COMMAND_QUEUED, commandText));
+        }
+
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        long version = model.getAddressBookVersion();
+        if (version == savedVersion) {
+            skippedSaveCount++;
+        } else if (saver == null) {
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException ioe) {
+                throw toCommandException(ioe);
+            }
+            savedVersion = version;
+            performedSaveCount++;
+        } else {
+            saver.submit(snapshotOf(model.getAddressBook()));
+            savedVersion = version;
+            performedSaveCount++;
+        }
+
+        if (saver != null) {
+            // a background save that failed since the last command is reported now, as a synchronous one would be
+            Optional<IOException> failure = saver.takeFailure();
+            if (failure.isPresent()) {
+                // the failed snapshot is still pending, so the next command queues it again instead of skipping
+                savedVersion = -1;
+                throw toCommandException(failure.get());
+            }
         }
 
         return commandResult;
     }
 
+    @Override
+    public boolean isLoading() {
+        return isLoading;
+    }
+
+    @Override
+    public void startLoading() {
+        isLoading = true;
+    }
+
+    @Override
+    public void addLoadedPersons(List<Person> persons) {
+        if (loadingFailure != null) {
+            return; // what has been loaded is already incomplete
+        }
+        try {
+            model.addPersons(persons);
+        } catch (RuntimeException e) {
+            failLoading(e);
+        }
+    }
+
+    @Override
+    public void failLoading(Exception cause) {
+        requireNonNull(cause);
+        logger.severe("Failed to load the address book: " + StringUtil.getDetails(cause));
+        if (loadingFailure == null) {
+            loadingFailure = String.format(MESSAGE_LOADING_FAILED, cause.getMessage());
+        }
+        isLoading = true;
+        queuedCommands.clear();
+    }
+
+    @Override
+    public List<String> finishLoading() throws CommandException {
+        if (loadingFailure != null) {
+            throw new CommandException(loadingFailure);
+        }
+        isLoading = false;
+        List<String> commands = new ArrayList<>(queuedCommands);
+        queuedCommands.clear();
+        if (!commands.isEmpty()) {
+            logger.info("Running " + commands.size() + " command(s) entered while the address book was loading");
+        }
+        return commands;
+    }
+
+    /**
+     * Returns the number of commands after which the address book was saved, or queued for saving.
+     */
+    public long getPerformedSaveCount() {
+        return performedSaveCount;
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book had not changed.
+     */
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        logger.info("Saved the address book after " + performedSaveCount + " command(s), skipped saving after "
+                + skippedSaveCount + " command(s) that changed nothing");
+        if (saver != null) {
+            saver.close();
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public String getStatisticsText() {
+        return StatsCommand.formatStatistics(model.getTutorStatistics(), model.getStudentStatistics());
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -85,4 +225,22 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    }
+
+    /**
+     * Returns a copy of the persons in {@code addressBook} that later commands cannot change, for saving in the
+     * background. Persons are not copied, as every command that changes a person replaces it with an edited copy
+     * instead of modifying it; persons are only modified while they are loaded, before any save.
+     */
+    private static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        return () -> persons;
+    }
 }
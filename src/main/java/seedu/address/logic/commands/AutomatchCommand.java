@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.matching.AutoMatcher;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches as many unmatched students with compatible unmatched tutors as possible, in one go.
+ */
+public class AutomatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "automatch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Matches as many unmatched students as possible with compatible unmatched tutors "
+            + "(same subject, overlapping level and price), preferring tutors whose price is closest.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS =
+            "Matched %1$d student(s) with tutors. %2$d student(s) and %3$d tutor(s) remain unmatched.";
+    public static final String MESSAGE_NO_MATCHES = "No unmatched student can be matched with an unmatched tutor.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<Person> students = new ArrayList<>();
+        List<Person> tutors = new ArrayList<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            if (person.getMatchedPerson() != null || person.getMatchedStatus()) {
+                continue;
+            }
+            if (person.isStudent()) {
+                students.add(person);
+            } else if (person.isTutor()) {
+                tutors.add(person);
+            }
+        }
+
+        int[] tutorOfStudent = new AutoMatcher(students, tutors).match();
+
+        List<Person> targets = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        for (int s = 0; s < tutorOfStudent.length; s++) {
+            if (tutorOfStudent[s] < 0) {
+                continue;
+            }
+            Person student = students.get(s);
+            Person tutor = tutors.get(tutorOfStudent[s]);
+            Person editedStudent = MatchCommand.clonePreservingId(student);
+            Person editedTutor = MatchCommand.clonePreservingId(tutor);
+            editedStudent.setMatchedPerson(editedTutor);
+            editedTutor.setMatchedPerson(editedStudent);
+            targets.add(student);
+            targets.add(tutor);
+            editedPersons.add(editedStudent);
+            editedPersons.add(editedTutor);
+        }
+
+        if (targets.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_MATCHES);
+        }
+        // a single change to the person list, so listeners re-evaluate once however many pairs were formed
+        model.replacePersons(targets, editedPersons);
+
+        int matched = targets.size() / 2;
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                matched, students.size() - matched, tutors.size() - matched));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof AutomatchCommand;
+    }
+}
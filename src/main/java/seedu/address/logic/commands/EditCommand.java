@@ -92,22 +92,7 @@ public class EditCommand extends Command {
             throw new CommandException(Level.MESSAGE_STUDENT_SINGLE_LEVEL);
         }
 
-        for (Person existing : model.getAllPersonList()) {
-            if (existing == personToEdit) {
-                continue;
-            }
-            if (existing.isSameName(editedPerson)) {
-                throw new CommandException(MESSAGE_DUPLICATE_PERSON);
-            }
-            if (existing.isSamePhone(editedPerson)) {
-                throw new CommandException(MESSAGE_DUPLICATE_PERSON);
-            }
-            if (existing.isSameEmail(editedPerson)) {
-                throw new CommandException(MESSAGE_DUPLICATE_PERSON);
-            }
-        }
-
-        if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
+        if (model.findIdentityClash(editedPerson, personToEdit).isPresent()) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
         Person counterpart = personToEdit.getMatchedPerson();
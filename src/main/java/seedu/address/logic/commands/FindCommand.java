@@ -2,12 +2,17 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.CandidatePredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
 
 /**
  * Finds and lists all persons in the address book that match
@@ -28,12 +33,23 @@ public class FindCommand extends Command {
             + "Example: " + COMMAND_WORD + " tutors n/ Aaron sbj/ Mathematics English l/ 1-3 p/ 20-50";
 
 
-
-
     private final Predicate<Person> predicate;
+    private final List<Subject> subjects;
 
     public FindCommand(Predicate<Person> predicate) {
+        this(predicate, List.of());
+    }
+
+    /**
+     * Creates a FindCommand whose {@code predicate} only accepts persons with one of {@code subjects}.
+     * The displayed list still visits every person when the search changes, but the model's subject index
+     * reduces the visit of a person without one of {@code subjects} to a single lookup.
+     * An empty {@code subjects} list means the search is not restricted by subject.
+     */
+    public FindCommand(Predicate<Person> predicate, List<Subject> subjects) {
+        requireNonNull(subjects);
         this.predicate = predicate;
+        this.subjects = subjects;
     }
 
     @Override
@@ -42,7 +58,7 @@ public class FindCommand extends Command {
         if (model.getFilteredPersonList().isEmpty()) {
             return new CommandResult("List is empty, there is no persons to find.");
         }
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(subjects.isEmpty() ? predicate : restrictToSubjects(model));
         if (model.getFilteredPersonList().isEmpty()) {
             return new CommandResult("No persons match your search");
         }
@@ -50,6 +66,18 @@ public class FindCommand extends Command {
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Returns {@code predicate} restricted to the tutors and students indexed under {@code subjects}.
+     */
+    private Predicate<Person> restrictToSubjects(Model model) {
+        List<Set<Person>> candidates = new ArrayList<>();
+        for (Subject subject : subjects) {
+            candidates.add(model.getTutorsWithSubject(subject));
+            candidates.add(model.getStudentsWithSubject(subject));
+        }
+        return new CandidatePredicate(candidates, predicate);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -62,7 +90,8 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && subjects.equals(otherFindCommand.subjects);
     }
 
     @Override
@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.HashSet;
-import java.util.Optional;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -51,9 +50,9 @@ public class MatchCommand extends Command {
             throw new CommandException(MESSAGE_SAME_ID);
         }
 
-        Person p1 = getById(model, firstId)
+        Person p1 = model.getPersonById(firstId)
                 .orElseThrow(() -> new CommandException(String.format(MESSAGE_NOT_FOUND, firstId)));
-        Person p2 = getById(model, secondId)
+        Person p2 = model.getPersonById(secondId)
                 .orElseThrow(() -> new CommandException(String.format(MESSAGE_NOT_FOUND, secondId)));
 
         // Determine which is tutor and which is student (order-agnostic)
@@ -93,18 +92,6 @@ public class MatchCommand extends Command {
         return new CommandResult(msg);
     }
 
-    /**
-     * Retrieves the Person object associated with the id.
-     * @param model {@code Model} which the command should operate on.
-     * @param id personId of the person trying to retrieve.
-     * @return Person object associated with the given id.
-     */
-    private Optional<Person> getById(Model model, int id) {
-        return model.getAddressBook().getPersonList().stream()
-                .filter(p -> p.getPersonId() == id)
-                .findFirst();
-    }
-
     /**
      * Validates whether a tutor and a student are compatible for matching.
      * This method checks if the tutor and student share the same subject,
@@ -152,7 +139,7 @@ public class MatchCommand extends Command {
      * @param p The {@code Person} to clone.
      * @return A new {@code Person} instance with identical field values and the same {@code personId}.
      */
-    private Person clonePreservingId(Person p) {
+    static Person clonePreservingId(Person p) {
         return new Person(
                 p.getRole(),
                 p.getName(),
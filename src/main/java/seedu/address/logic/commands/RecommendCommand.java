@@ -4,21 +4,27 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LEVEL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.CandidatePredicate;
 import seedu.address.model.person.Level;
-import seedu.address.model.person.MatchingSubjectPredicate;
 import seedu.address.model.person.OverlappingLevelPredicate;
 import seedu.address.model.person.OverlappingPricePredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Price;
 import seedu.address.model.person.Subject;
+import seedu.address.model.recommendation.Recommender;
+import seedu.address.model.recommendation.ScoredPerson;
 
 /**
  * Recommends and lists tutors or students in the address book that match
@@ -36,19 +42,29 @@ public class RecommendCommand extends Command {
             + "INDEX "
             + "[" + PREFIX_SUBJECT + "] "
             + "[" + PREFIX_LEVEL + "] "
-            + "[" + PREFIX_PRICE + "]\n"
+            + "[" + PREFIX_PRICE + "] "
+            + "[" + PREFIX_TOP + "K]\n"
+            + "With " + PREFIX_TOP + "K, only the K best-suited persons are shown, ranked by subject, "
+            + "level and price fit and availability.\n"
             + "Example: " + COMMAND_WORD + " 1 "
-            + PREFIX_PRICE;
+            + PREFIX_PRICE + " " + PREFIX_TOP + "5";
+
+    /** The largest number of ranked persons that can be asked for, as each is listed in the result message. */
+    public static final int MAX_TOP = 100;
 
     public static final String MESSAGE_SUCCESS_TUTORS = "Recommended tutors based on your requirements!";
     public static final String MESSAGE_SUCCESS_STUDENTS = "Recommended students based on your requirements!";
     public static final String MESSAGE_NO_MATCH_TUTORS = "No tutors match your requirements.";
     public static final String MESSAGE_NO_MATCH_STUDENTS = "No students match your requirements.";
+    public static final String MESSAGE_TOP_TUTORS = "Top %1$d recommended tutors based on your requirements:%2$s";
+    public static final String MESSAGE_TOP_STUDENTS =
+            "Top %1$d recommended students based on your requirements:%2$s";
 
     private final Index index;
     private final boolean useSubject;
     private final boolean useLevel;
     private final boolean usePrice;
+    private final int topK;
     private Predicate<Person> predicate;
 
     /**
@@ -58,11 +74,23 @@ public class RecommendCommand extends Command {
      * @param usePrice whether to use price requirement
      */
     public RecommendCommand(Index index, boolean useSubject, boolean useLevel, boolean usePrice) {
+        this(index, useSubject, useLevel, usePrice, 0);
+    }
+
+    /**
+     * @param index of the user in the filtered person list to recommend matches for
+     * @param useSubject whether to use subject requirement
+     * @param useLevel whether to use level requirement
+     * @param usePrice whether to use price requirement
+     * @param topK number of best-scoring matches to show, or 0 to show every match unranked
+     */
+    public RecommendCommand(Index index, boolean useSubject, boolean useLevel, boolean usePrice, int topK) {
         requireAllNonNull(index);
         this.index = index;
         this.useSubject = useSubject;
         this.useLevel = useLevel;
         this.usePrice = usePrice;
+        this.topK = topK;
     }
 
     @Override
@@ -89,39 +117,79 @@ public class RecommendCommand extends Command {
             filterPrice = true;
         }
 
-        if (filterSubject && userSubject != null) {
-            predicate = predicate.and(new MatchingSubjectPredicate(List.of(userSubject)));
+        Subject requiredSubject = filterSubject ? userSubject : null;
+        Level requiredLevel = filterLevel ? userLevel : null;
+        Price requiredPrice = filterPrice ? userPrice : null;
+        if (requiredLevel != null) {
+            predicate = predicate.and(new OverlappingLevelPredicate(List.of(requiredLevel)));
         }
-        if (filterLevel && userLevel != null) {
-            predicate = predicate.and(new OverlappingLevelPredicate(List.of(userLevel)));
-        }
-        if (filterPrice && userPrice != null) {
-            predicate = predicate.and(new OverlappingPricePredicate(List.of(userPrice)));
+        if (requiredPrice != null) {
+            predicate = predicate.and(new OverlappingPricePredicate(List.of(requiredPrice)));
         }
 
+        // Ranking needs the matches themselves, which the model's subject, level and price indexes find without
+        // testing every person. Otherwise the displayed list is filtered from the live subject bucket, so it stays
+        // correct after edits, and an empty result means there is no match; finding the matches first would only
+        // repeat that work.
         if (user.isStudent()) {
-            Predicate<Person> tutorPredicate = p -> p.isTutor() && predicate.test(p);
-            model.updateFilteredPersonList(tutorPredicate);
-
-            if (model.getFilteredPersonList().isEmpty()) {
-                model.updateFilteredPersonList(p -> true); // show all persons
-                return new CommandResult(MESSAGE_NO_MATCH_TUTORS);
+            if (topK > 0) {
+                return showTopK(model, user, model.findTutors(requiredSubject, requiredLevel, requiredPrice),
+                        MESSAGE_TOP_TUTORS, MESSAGE_NO_MATCH_TUTORS);
             }
-            return new CommandResult(MESSAGE_SUCCESS_TUTORS);
+            Predicate<Person> tutorPredicate = requiredSubject != null
+                    ? new CandidatePredicate(List.of(model.getTutorsWithSubject(requiredSubject)), predicate)
+                    : p -> p.isTutor() && predicate.test(p);
+            return showMatches(model, tutorPredicate, MESSAGE_SUCCESS_TUTORS, MESSAGE_NO_MATCH_TUTORS);
         } else if (user.isTutor()) {
-            Predicate<Person> studentPredicate = p -> p.isStudent() && predicate.test(p);
-            model.updateFilteredPersonList(studentPredicate);
-
-            if (model.getFilteredPersonList().isEmpty()) {
-                model.updateFilteredPersonList(p -> true); // show all persons
-                return new CommandResult(MESSAGE_NO_MATCH_STUDENTS);
+            if (topK > 0) {
+                return showTopK(model, user, model.findStudents(requiredSubject, requiredLevel, requiredPrice),
+                        MESSAGE_TOP_STUDENTS, MESSAGE_NO_MATCH_STUDENTS);
             }
-            return new CommandResult(MESSAGE_SUCCESS_STUDENTS);
+            Predicate<Person> studentPredicate = requiredSubject != null
+                    ? new CandidatePredicate(List.of(model.getStudentsWithSubject(requiredSubject)), predicate)
+                    : p -> p.isStudent() && predicate.test(p);
+            return showMatches(model, studentPredicate, MESSAGE_SUCCESS_STUDENTS, MESSAGE_NO_MATCH_STUDENTS);
         }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Shows the persons accepted by {@code matchPredicate}, or every person if there are none.
+     */
+    private CommandResult showMatches(Model model, Predicate<Person> matchPredicate, String successMessage,
+            String noMatchMessage) {
+        model.updateFilteredPersonList(matchPredicate);
+        if (model.getFilteredPersonList().isEmpty()) {
+            model.updateFilteredPersonList(p -> true); // show all persons
+            return new CommandResult(noMatchMessage);
+        }
+        return new CommandResult(successMessage);
+    }
+
+    /**
+     * Shows only the {@code topK} best-scoring {@code matches} for {@code user} and lists them with their scores,
+     * or every person if there are no matches.
+     */
+    private CommandResult showTopK(Model model, Person user, List<Person> matches, String messageFormat,
+            String noMatchMessage) {
+        if (matches.isEmpty()) {
+            model.updateFilteredPersonList(p -> true); // show all persons
+            return new CommandResult(noMatchMessage);
+        }
+        List<ScoredPerson> ranked = new Recommender(user).topK(matches, topK);
+        Set<Person> shown = Collections.newSetFromMap(new IdentityHashMap<>());
+        StringBuilder ranking = new StringBuilder();
+        for (int i = 0; i < ranked.size(); i++) {
+            ScoredPerson scored = ranked.get(i);
+            shown.add(scored.getPerson());
+            ranking.append(String.format("%n%d. %s (id: #%d, score: %.2f)", i + 1,
+                    scored.getPerson().getName().fullName, scored.getPerson().getPersonId(), scored.getScore()));
+        }
+        model.updateFilteredPersonList(shown::contains);
+        return new CommandResult(String.format(messageFormat, ranked.size(), ranking));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -136,7 +204,8 @@ public class RecommendCommand extends Command {
         return index.equals(otherRecommendCommand.index)
             && useSubject == otherRecommendCommand.useSubject
             && useLevel == otherRecommendCommand.useLevel
-            && usePrice == otherRecommendCommand.usePrice;
+            && usePrice == otherRecommendCommand.usePrice
+            && topK == otherRecommendCommand.topK;
     }
 
     @Override
@@ -146,6 +215,7 @@ public class RecommendCommand extends Command {
             .add("useSubject", useSubject)
             .add("useLevel", useLevel)
             .add("usePrice", usePrice)
+            .add("topK", topK)
             .toString();
     }
 }
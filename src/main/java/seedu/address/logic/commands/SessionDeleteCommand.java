@@ -43,10 +43,14 @@ public class SessionDeleteCommand extends Command {
             throw new CommandException("No active session to delete for " + person.getName() + ".");
         }
 
-        person.clearSession();
-        matchedPerson.clearSession();
-        model.setPerson(person, person);
-        model.setPerson(matchedPerson, matchedPerson);
+        // Replace both rather than clearing their sessions in place, as saving and the journal rely on
+        // persons in the address book never changing
+        Person updatedPerson = MatchCommand.clonePreservingId(person);
+        Person updatedMatchedPerson = MatchCommand.clonePreservingId(matchedPerson);
+        updatedPerson.setMatchedPerson(updatedMatchedPerson);
+        updatedMatchedPerson.setMatchedPerson(updatedPerson);
+        model.setPerson(person, updatedPerson);
+        model.setPerson(matchedPerson, updatedMatchedPerson);
 
         return new CommandResult(String.format(
                 "Deleted session for %s and their matched partner %s.",
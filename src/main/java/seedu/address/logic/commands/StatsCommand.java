@@ -4,9 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import seedu.address.model.Model;
 import seedu.address.model.statistics.Statistics;
-import seedu.address.model.statistics.StatisticsCalculator;
-import seedu.address.model.statistics.StudentStatisticsCalculator;
-import seedu.address.model.statistics.TutorStatisticsCalculator;
+import seedu.address.model.statistics.SupplyDemand;
 
 /**
  * Displays statistics about the persons in the address book.
@@ -24,24 +22,32 @@ public class StatsCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        StatisticsCalculator tutorCalc = new TutorStatisticsCalculator(model.getAllPersonList());
-        StatisticsCalculator studentCalc = new StudentStatisticsCalculator(model.getAllPersonList());
-        Statistics tutorStats = tutorCalc.calculate();
-        Statistics studentStats = studentCalc.calculate();
+        String result = formatStatistics(model.getTutorStatistics(), model.getStudentStatistics());
 
-        String result = "=================== CONNECTED STATISTICS ===================\n"
+        // feedback shown in output box remains SHOWING_STATS_MESSAGE,
+        // full stats string is passed as the statsText payload for the stats window
+        return new CommandResult(SHOWING_STATS_MESSAGE, result, false, true, false);
+    }
+
+    /**
+     * Formats the statistics of the tutors and of the students for the stats window.
+     */
+    public static String formatStatistics(Statistics tutorStats, Statistics studentStats) {
+        return "=================== CONNECTED STATISTICS ===================\n"
                 + "TUTORS\n"
                 + "-----------------------------------------------------\n"
                 + tutorStats + "\n"
+                + tutorStats.getDistributions() + "\n"
                 + "======================================================\n"
                 + "STUDENTS\n"
                 + "-----------------------------------------------------\n"
                 + studentStats + "\n"
+                + studentStats.getDistributions() + "\n"
+                + "======================================================\n"
+                + "SUPPLY AND DEMAND\n"
+                + "-----------------------------------------------------\n"
+                + new SupplyDemand(tutorStats.getDistributions(), studentStats.getDistributions()) + "\n"
                 + "======================================================";
-
-        // feedback shown in output box remains SHOWING_STATS_MESSAGE,
-        // full stats string is passed as the statsText payload for the stats window
-        return new CommandResult(SHOWING_STATS_MESSAGE, result, false, true, false);
     }
 
     @Override
@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.HashSet;
-import java.util.Optional;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -36,7 +35,7 @@ public class UnmatchCommand extends Command {
         requireNonNull(model);
 
         // Find the person by ID
-        Person target = getById(model, personId)
+        Person target = model.getPersonById(personId)
                 .orElseThrow(() -> new CommandException(String.format(MESSAGE_NOT_FOUND, personId)));
 
         if (target.getMatchedPerson() == null) {
@@ -64,18 +63,6 @@ public class UnmatchCommand extends Command {
         return new CommandResult(msg);
     }
 
-    /**
-     * Retrieves the Person object associated with the id.
-     * @param model {@code Model} which the command should operate on.
-     * @param id personId of the person trying to retrieve.
-     * @return Person object associated with the given id.
-     */
-    private Optional<Person> getById(Model model, int id) {
-        return model.getAddressBook().getPersonList().stream()
-                .filter(p -> p.getPersonId() == id)
-                .findFirst();
-    }
-
     /**
      * Creates a clone of the given {@code Person} object while preserving its unique identifier.
      * This method reuses the same {@code personId} from the original code parameters.
@@ -18,6 +18,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_DAY = new Prefix("d/");
     public static final Prefix PREFIX_TIME = new Prefix("t/");
     public static final Prefix PREFIX_DURATION = new Prefix("dur/");
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
 
 
 }
@@ -37,12 +37,15 @@ public class FindCommandParser implements Parser<FindCommand> {
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_SUBJECT, PREFIX_LEVEL, PREFIX_PRICE);
         Predicate<Person> combinedPredicate = p -> true;
         combinedPredicate = addNamePredicate(argMultimap, combinedPredicate);
-        combinedPredicate = addSubjectPredicate(argMultimap, combinedPredicate);
+        List<Subject> subjects = parseSubjects(argMultimap);
+        if (!subjects.isEmpty()) {
+            combinedPredicate = combinedPredicate.and(new MatchingSubjectPredicate(subjects));
+        }
         combinedPredicate = addLevelPredicate(argMultimap, combinedPredicate);
         combinedPredicate = addPricePredicate(argMultimap, combinedPredicate);
         ensureAtLeastOneFilter(argMultimap);
         combinedPredicate = addRolePredicate(argMultimap, combinedPredicate);
-        return new FindCommand(combinedPredicate);
+        return new FindCommand(combinedPredicate, subjects);
     }
 
     private void validateNotEmpty(String args) throws ParseException {
@@ -86,10 +89,9 @@ public class FindCommandParser implements Parser<FindCommand> {
         return combinedPredicate.and(new NameContainsKeywordsPredicate(nameKeywords));
     }
 
-    private Predicate<Person> addSubjectPredicate(ArgumentMultimap map,
-                                                  Predicate<Person> combinedPredicate) throws ParseException {
+    private List<Subject> parseSubjects(ArgumentMultimap map) throws ParseException {
         if (map.getValue(PREFIX_SUBJECT).isEmpty()) {
-            return combinedPredicate;
+            return List.of();
         }
         List<String> allSubjects = map.getAllValues(PREFIX_SUBJECT);
         if (allSubjects.stream().allMatch(s -> s.trim().isEmpty())) {
@@ -103,7 +105,7 @@ public class FindCommandParser implements Parser<FindCommand> {
                 }
             }
         }
-        return combinedPredicate.and(new MatchingSubjectPredicate(subjects));
+        return subjects;
     }
 
     private Predicate<Person> addLevelPredicate(ArgumentMultimap map,
@@ -5,6 +5,7 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDE
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LEVEL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
@@ -16,6 +17,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class RecommendCommandParser implements Parser<RecommendCommand> {
 
+    public static final String MESSAGE_INVALID_TOP = "Top specifier should be a whole number from 1 to "
+            + RecommendCommand.MAX_TOP + ", e.g. top/5.";
+
     /**
      * Parses the given {@code String} of arguments in the context of the RecommendCommand
      * and returns a RecommendCommand object for execution.
@@ -23,7 +27,7 @@ public class RecommendCommandParser implements Parser<RecommendCommand> {
      */
     public RecommendCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_SUBJECT, PREFIX_LEVEL, PREFIX_PRICE);
+                ArgumentTokenizer.tokenize(args, PREFIX_SUBJECT, PREFIX_LEVEL, PREFIX_PRICE, PREFIX_TOP);
 
         String userArg = args.trim(); // user index (positive integer)
         if (userArg.isEmpty()) {
@@ -71,6 +75,18 @@ public class RecommendCommandParser implements Parser<RecommendCommand> {
             usePrice = true;
         }
 
-        return new RecommendCommand(index, useSubject, useLevel, usePrice);
+        int topK = 0;
+        if (argMultimap.getValue(PREFIX_TOP).isPresent()) {
+            String topValue = argMultimap.getValue(PREFIX_TOP).get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(topValue)) {
+                throw new ParseException(MESSAGE_INVALID_TOP);
+            }
+            topK = Integer.parseInt(topValue);
+            if (topK > RecommendCommand.MAX_TOP) {
+                throw new ParseException(MESSAGE_INVALID_TOP);
+            }
+        }
+
+        return new RecommendCommand(index, useSubject, useLevel, usePrice, topK);
     }
 }
@@ -4,11 +4,19 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.IntHashMap;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.IdentityField;
+import seedu.address.model.person.Level;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Price;
+import seedu.address.model.person.Subject;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.statistics.Statistics;
 
 /**
  * Wraps all data at the address-book level
@@ -17,6 +25,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final IntHashMap<Person> personsById = new IntHashMap<>();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -47,6 +56,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        rebuildIdIndex();
     }
 
     /**
@@ -90,12 +100,93 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.getRepeatedPerson(person);
     }
 
+    /**
+     * Returns the identity field that {@code person} shares with a person in the address book other than
+     * {@code excluded}, if any.
+     */
+    public Optional<IdentityField> findIdentityClash(Person person, Person excluded) {
+        requireNonNull(person);
+        return persons.findIdentityClash(person, excluded);
+    }
+
+    /**
+     * Returns the person with the given persistent {@code personId}, if any.
+     */
+    public Optional<Person> getPersonById(int personId) {
+        return Optional.ofNullable(personsById.get(personId));
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the tutors with {@code subject}.
+     */
+    public Set<Person> getTutorsWithSubject(Subject subject) {
+        return persons.getTutorsWithSubject(subject);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the students with {@code subject}.
+     */
+    public Set<Person> getStudentsWithSubject(Subject subject) {
+        return persons.getStudentsWithSubject(subject);
+    }
+
+    /**
+     * Returns the statistics of the tutors in the address book.
+     */
+    public Statistics getTutorStatistics() {
+        return persons.getTutorStatistics();
+    }
+
+    /**
+     * Returns the statistics of the students in the address book.
+     */
+    public Statistics getStudentStatistics() {
+        return persons.getStudentStatistics();
+    }
+
+    /**
+     * Returns the tutors compatible with the given subject, level and price, skipping null requirements.
+     */
+    public List<Person> findTutors(Subject subject, Level level, Price price) {
+        return persons.findTutors(subject, level, price);
+    }
+
+    /**
+     * Returns the students compatible with the given subject, level and price, skipping null requirements.
+     */
+    public List<Person> findStudents(Subject subject, Level level, Price price) {
+        return persons.findStudents(subject, level, price);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        personsById.put(p.getPersonId(), p);
+    }
+
+    /**
+     * Gives {@code person}, who is in the address book but was stored without an id, the id {@code personId},
+     * and indexes the person by it. No other person may have that id.
+     */
+    public void assignPersonId(Person person, int personId) {
+        requireNonNull(person);
+        personsById.remove(person.getPersonId(), person);
+        person.setPersonId(personId);
+        personsById.put(personId, person);
+    }
+
+    /**
+     * Adds {@code persons} to the end of the address book in order, as one change to the person list.
+     * None of them may already exist in the address book.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        for (Person p : persons) {
+            personsById.put(p.getPersonId(), p);
+        }
     }
 
     /**
@@ -107,6 +198,24 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        personsById.remove(target.getPersonId());
+        personsById.put(editedPerson.getPersonId(), editedPerson);
+    }
+
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}
+     * as a single change to the person list.
+     * Every target must exist in the address book, and the edited persons must not share an identity with each
+     * other or with any person that is not replaced.
+     */
+    public void replacePersons(List<Person> targets, List<Person> editedPersons) {
+        persons.replacePersons(targets, editedPersons);
+        for (Person target : targets) {
+            personsById.remove(target.getPersonId(), target);
+        }
+        for (Person editedPerson : editedPersons) {
+            personsById.put(editedPerson.getPersonId(), editedPerson);
+        }
     }
 
     /**
@@ -115,6 +224,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        personsById.remove(key.getPersonId());
+    }
+
+    /**
+     * Records that {@code person}, who is already in the address book, is matched with {@code mate}.
+     * For restoring matches between persons once both have been added, such as when loading.
+     */
+    public void restoreMatch(Person person, Person mate) {
+        persons.restoreMatch(person, mate);
     }
 
     /**
@@ -126,6 +244,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.sort(comparator);
     }
 
+    private void rebuildIdIndex() {
+        personsById.clear();
+        for (Person person : persons) {
+            personsById.put(person.getPersonId(), person);
+        }
+    }
+
+    /**
+     * Returns a number that changes whenever the persons in this address book, or their order, change.
+     */
+    public long getVersion() {
+        return persons.getVersion();
+    }
+
     //// util methods
 
     @Override
@@ -2,11 +2,18 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.IdentityField;
+import seedu.address.model.person.Level;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Price;
+import seedu.address.model.person.Subject;
+import seedu.address.model.statistics.Statistics;
 
 /**
  * The API of the Model component.
@@ -59,6 +66,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the persons in the address book, or their order, change.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -69,6 +81,16 @@ public interface Model {
      */
     List<Person> getAllPersonList();
 
+    /**
+     * Returns the statistics of the tutors in the address book.
+     */
+    Statistics getTutorStatistics();
+
+    /**
+     * Returns the statistics of the students in the address book.
+     */
+    Statistics getStudentStatistics();
+
     /**
      * Returns the repeated entry if a person with the same identity as {@code person} exists in the address book.
      */
@@ -80,6 +102,41 @@ public interface Model {
      */
     Person getRepeatedPerson(Person person);
 
+    /**
+     * Returns the person with the given persistent {@code personId}, or {@code Optional.empty()} if there is none.
+     */
+    Optional<Person> getPersonById(int personId);
+
+    /**
+     * Returns the identity field (name, phone or email) that {@code person} shares with a person in the
+     * address book other than {@code excluded}, or {@code Optional.empty()} if there is none.
+     */
+    Optional<IdentityField> findIdentityClash(Person person, Person excluded);
+
+    /**
+     * Returns the tutors in the address book with {@code subject}.
+     * The returned set is a live, unmodifiable view that reflects later changes to the address book.
+     */
+    Set<Person> getTutorsWithSubject(Subject subject);
+
+    /**
+     * Returns the students in the address book with {@code subject}.
+     * The returned set is a live, unmodifiable view that reflects later changes to the address book.
+     */
+    Set<Person> getStudentsWithSubject(Subject subject);
+
+    /**
+     * Returns the tutors with {@code subject}, a level range intersecting {@code level} and a price range
+     * overlapping {@code price}, in no particular order. A null requirement is not checked.
+     */
+    List<Person> findTutors(Subject subject, Level level, Price price);
+
+    /**
+     * Returns the students with {@code subject}, a level intersecting {@code level} and a price range
+     * overlapping {@code price}, in no particular order. A null requirement is not checked.
+     */
+    List<Person> findStudents(Subject subject, Level level, Price price);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -92,6 +149,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons to the end of the address book in order, without changing the filter.
+     * None of them may already exist in the address book.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -99,7 +162,15 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons},
+     * as one change to the person list.
+     * Every target must exist in the address book, and the edited persons must not share an identity with each
+     * other or with any person that is not replaced.
+     */
+    void replacePersons(List<Person> targets, List<Person> editedPersons);
+
+    /** Returns an unmodifiable view of the filtered person list, in the order of the last sort */
     ObservableList<Person> getFilteredPersonList();
 
     /**
@@ -109,7 +180,8 @@ public interface Model {
     void updateFilteredPersonList(Predicate<Person> predicate);
 
     /**
-     * Sorts the persons in the address book by the specified fields in order.
+     * Sorts the filtered person list by the specified fields in order, without changing the order of the persons
+     * in the address book. No fields restores the order of the address book.
      *
      * @param sortFields list of fields to sort by (e.g., "p/" for price, "l/" for level)
      */
@@ -6,14 +6,22 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.IdentityField;
+import seedu.address.model.person.Level;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Price;
+import seedu.address.model.person.Subject;
+import seedu.address.model.statistics.Statistics;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -24,6 +32,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private Predicate<Person> currentPredicate = PREDICATE_SHOW_ALL_PERSONS;
 
     /**
@@ -37,6 +46,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -90,6 +100,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -101,6 +116,16 @@ public class ModelManager implements Model {
         return addressBook.getPersonList();
     }
 
+    @Override
+    public Statistics getTutorStatistics() {
+        return addressBook.getTutorStatistics();
+    }
+
+    @Override
+    public Statistics getStudentStatistics() {
+        return addressBook.getStudentStatistics();
+    }
+
     @Override
     public String getRepeatedEntry(Person person) {
         return addressBook.getRepeatedEntry(person);
@@ -111,6 +136,39 @@ public class ModelManager implements Model {
         return addressBook.getRepeatedPerson(person);
     };
 
+    @Override
+    public Optional<Person> getPersonById(int personId) {
+        return addressBook.getPersonById(personId);
+    }
+
+    @Override
+    public Optional<IdentityField> findIdentityClash(Person person, Person excluded) {
+        requireNonNull(person);
+        return addressBook.findIdentityClash(person, excluded);
+    }
+
+    @Override
+    public Set<Person> getTutorsWithSubject(Subject subject) {
+        requireNonNull(subject);
+        return addressBook.getTutorsWithSubject(subject);
+    }
+
+    @Override
+    public Set<Person> getStudentsWithSubject(Subject subject) {
+        requireNonNull(subject);
+        return addressBook.getStudentsWithSubject(subject);
+    }
+
+    @Override
+    public List<Person> findTutors(Subject subject, Level level, Price price) {
+        return addressBook.findTutors(subject, level, price);
+    }
+
+    @Override
+    public List<Person> findStudents(Subject subject, Level level, Price price) {
+        return addressBook.findStudents(subject, level, price);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -122,6 +180,12 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -129,6 +193,13 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void replacePersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+
+        addressBook.replacePersons(targets, editedPersons);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -137,7 +208,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
@@ -154,30 +225,17 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && sortedPersons.equals(otherModelManager.sortedPersons);
     }
 
+    /**
+     * Sorts the view of the filtered persons rather than the address book, so the saved order is left alone.
+     * The view keeps itself sorted as persons are added, edited or filtered in and out.
+     */
     @Override
     public void sortPersons(List<String> sortedBy) {
         requireNonNull(sortedBy);
-
-        Comparator<Person> comparator = null;
-
-        for (int i = 0; i < sortedBy.size(); i++) {
-            Comparator<Person> criteriaComparator = getComparatorForCriteria(sortedBy.get(i));
-
-            if (comparator == null) {
-                comparator = criteriaComparator;
-            } else {
-                comparator = comparator.thenComparing(criteriaComparator);
-            }
-        }
-
-        if (comparator == null) {
-            return;
-        }
-
-        addressBook.sortPersons(comparator);
+        sortedPersons.setComparator(getComparator(List.copyOf(sortedBy)));
     }
 
     @Override
@@ -194,7 +252,7 @@ public class ModelManager implements Model {
 
     /**
      * Creates a comparator for Person objects based on price or level.
-     * Uses the first number for hyphenated values.
+     * Ranges are ordered by their lower bound, then by their upper bound.
      *
      * @param criteria "p/" for price, "l/" for level comparison
      * @return Comparator for sorting Persons
@@ -202,24 +260,62 @@ public class ModelManager implements Model {
     public Comparator<Person> getComparatorForCriteria(String criteria) {
         switch(criteria) {
         case "p/":
-            return Comparator.comparingInt(person -> {
-                String priceString = person.getPrice().toString();
-                if (priceString.contains("-")) {
-                    return Integer.parseInt(priceString.split("-")[0]);
-                }
-                return Integer.parseInt(priceString);
-            });
+            return Comparator.comparingInt(person -> person.getPrice().getSortKey());
         case "l/":
-            return Comparator.comparingInt(person -> {
-                String levelString = person.getLevel().toString();
-                if (levelString.contains("-")) {
-                    return Integer.parseInt(levelString.split("-")[0]);
-                }
-                return Integer.parseInt(levelString);
-            });
+            return Comparator.comparingInt(person -> person.getLevel().getSortKey());
         default:
             return (p1, p2) -> 0;
         }
     }
 
+    /**
+     * Returns a comparator that orders persons by the packed sort keys of {@code sortedBy}, most significant
+     * first, or null to keep the order of the address book if {@code sortedBy} is empty.
+     */
+    private Comparator<Person> getComparator(List<String> sortedBy) {
+        if (sortedBy.isEmpty()) {
+            return null;
+        }
+
+        int keyBits = 0;
+        for (String criteria : sortedBy) {
+            keyBits += getSortKeyBits(criteria);
+        }
+        if (keyBits >= Long.SIZE) {
+            return sortedBy.stream()
+                    .map(this::getComparatorForCriteria)
+                    .reduce(Comparator::thenComparing)
+                    .get();
+        }
+        return Comparator.comparingLong(person -> getSortKey(person, sortedBy));
+    }
+
+    private static int getSortKeyBits(String criteria) {
+        switch (criteria) {
+        case "p/":
+            return Price.SORT_KEY_BITS;
+        case "l/":
+            return Level.SORT_KEY_BITS;
+        default:
+            return 0;
+        }
+    }
+
+    private static long getSortKey(Person person, List<String> sortedBy) {
+        long key = 0;
+        for (String criteria : sortedBy) {
+            switch (criteria) {
+            case "p/":
+                key = key << Price.SORT_KEY_BITS | person.getPrice().getSortKey();
+                break;
+            case "l/":
+                key = key << Level.SORT_KEY_BITS | person.getLevel().getSortKey();
+                break;
+            default:
+                break;
+            }
+        }
+        return key;
+    }
+
 }
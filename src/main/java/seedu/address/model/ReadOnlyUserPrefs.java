@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DataFileCompression;
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,4 +15,39 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns how long, in milliseconds, changes to the address book may wait before being saved together.
+     * Zero means every change is saved immediately.
+     */
+    long getSaveIntervalMillis();
+
+    /**
+     * Returns true if changes to the address book are appended to a journal next to the data file,
+     * instead of rewriting the whole data file on every save.
+     */
+    boolean isAddressBookJournaled();
+
+    /**
+     * Returns true if the persons of the address book are split into one file per role and subject, listed in a
+     * manifest at the data file path, so that saving only rewrites the files of the persons that changed.
+     */
+    boolean isAddressBookSharded();
+
+    /**
+     * Returns true if the address book is saved to a temporary file that is synced to the disk and then renamed
+     * over the data file, so that a crash while saving cannot leave a partly written data file.
+     */
+    boolean isAddressBookSavedAtomically();
+
+    /**
+     * Returns the format of the address book data file.
+     */
+    DataFileFormat getAddressBookFormat();
+
+    /**
+     * Returns how JSON data files, and any journal or shards written with them, are compressed when saved.
+     * Data files are read whether or not they are compressed.
+     */
+    DataFileCompression getAddressBookCompression();
+
 }
@@ -1,11 +1,14 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFileCompression;
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,8 +16,16 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final long DEFAULT_SAVE_INTERVAL_MILLIS = 500;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "ConnectEd.json");
+    private long saveIntervalMillis = DEFAULT_SAVE_INTERVAL_MILLIS;
+    private boolean addressBookJournaled = false;
+    private boolean addressBookSharded = false;
+    private boolean addressBookSavedAtomically = false;
+    private DataFileFormat addressBookFormat = DataFileFormat.JSON;
+    private DataFileCompression addressBookCompression = DataFileCompression.NONE;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +47,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setSaveIntervalMillis(newUserPrefs.getSaveIntervalMillis());
+        setAddressBookJournaled(newUserPrefs.isAddressBookJournaled());
+        setAddressBookSharded(newUserPrefs.isAddressBookSharded());
+        setAddressBookSavedAtomically(newUserPrefs.isAddressBookSavedAtomically());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setAddressBookCompression(newUserPrefs.getAddressBookCompression());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +73,57 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public long getSaveIntervalMillis() {
+        return saveIntervalMillis;
+    }
+
+    public void setSaveIntervalMillis(long saveIntervalMillis) {
+        checkArgument(saveIntervalMillis >= 0, "Save interval must not be negative.");
+        this.saveIntervalMillis = saveIntervalMillis;
+    }
+
+    public boolean isAddressBookJournaled() {
+        return addressBookJournaled;
+    }
+
+    public void setAddressBookJournaled(boolean addressBookJournaled) {
+        this.addressBookJournaled = addressBookJournaled;
+    }
+
+    public boolean isAddressBookSharded() {
+        return addressBookSharded;
+    }
+
+    public void setAddressBookSharded(boolean addressBookSharded) {
+        this.addressBookSharded = addressBookSharded;
+    }
+
+    public boolean isAddressBookSavedAtomically() {
+        return addressBookSavedAtomically;
+    }
+
+    public void setAddressBookSavedAtomically(boolean addressBookSavedAtomically) {
+        this.addressBookSavedAtomically = addressBookSavedAtomically;
+    }
+
+    public DataFileFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(DataFileFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public DataFileCompression getAddressBookCompression() {
+        return addressBookCompression;
+    }
+
+    public void setAddressBookCompression(DataFileCompression addressBookCompression) {
+        requireNonNull(addressBookCompression);
+        this.addressBookCompression = addressBookCompression;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +137,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && saveIntervalMillis == otherUserPrefs.saveIntervalMillis
+                && addressBookJournaled == otherUserPrefs.addressBookJournaled
+                && addressBookSharded == otherUserPrefs.addressBookSharded
+                && addressBookSavedAtomically == otherUserPrefs.addressBookSavedAtomically
+                && addressBookFormat == otherUserPrefs.addressBookFormat
+                && addressBookCompression == otherUserPrefs.addressBookCompression;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, saveIntervalMillis, addressBookJournaled,
+                addressBookSharded, addressBookSavedAtomically, addressBookFormat, addressBookCompression);
     }
 
     @Override
@@ -82,6 +157,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nSave interval (ms) : " + saveIntervalMillis);
+        sb.append("\nJournaled data file : " + addressBookJournaled);
+        sb.append("\nSharded data file : " + addressBookSharded);
+        sb.append("\nAtomic saves : " + addressBookSavedAtomically);
+        sb.append("\nData file format : " + addressBookFormat);
+        sb.append("\nData file compression : " + addressBookCompression);
         return sb.toString();
     }
 
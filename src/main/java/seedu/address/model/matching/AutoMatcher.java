@@ -0,0 +1,407 @@
+package seedu.address.model.matching;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+
+/**
+ * Pairs up as many students with tutors as possible, where a student and a tutor can be paired if they have the
+ * same subject and their level and price ranges overlap (the rules {@code match} enforces).
+ * <p>
+ * Uses the Hopcroft-Karp algorithm for maximum bipartite matching. The compatibility graph is never built:
+ * tutors are bucketed by subject and level and sorted by minimum price, so the tutors compatible with a student
+ * all lie in one window of one bucket. Tutors that can no longer be useful in the current pass (taken, or already
+ * visited by the search) are skipped over with links between bucket positions, so each pass over the students
+ * touches each bucket position roughly once. Before augmenting, every student is greedily given the free
+ * compatible tutor whose price range is closest to theirs, which matches most students cheaply and steers the
+ * result towards small price gaps.
+ */
+public class AutoMatcher {
+
+    private static final int UNMATCHED = -1;
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int studentCount;
+    private final int tutorCount;
+
+    private final int[] studentLevelStart;
+    private final int[] studentLevelEnd;
+    private final int[] studentPriceMin;
+    private final int[] studentPriceMax;
+
+    private final int[] tutorLevelStart;
+    private final int[] tutorLevelEnd;
+    private final int[] tutorPriceMin;
+    private final int[] tutorPriceMax;
+
+    /** Tutors of one subject covering one level (or all levels of the subject), sorted by minimum price. */
+    private final int[][] buckets;
+    /**
+     * For each bucket, links from a position to a later one, skipping tutors that are useless for the current phase.
+     * Has one more slot than the bucket, so that the end of the bucket is a valid link target.
+     */
+    private final int[][] skipLinks;
+    /** Like {@code skipLinks}, but skipping tutors that have been taken. Tutors are never freed again. */
+    private final int[][] freeTutorLinks;
+    private final int[] studentBucket;
+    /** Inclusive start and exclusive end of the window of each student's bucket that can hold compatible tutors. */
+    private final int[] studentWindowStart;
+    private final int[] studentWindowEnd;
+
+    private final int[] tutorOfStudent;
+    private final int[] studentOfTutor;
+    private final int[] distance;
+    private final int[] nextCandidate;
+    /** Length of the shortest augmenting paths in the current phase, counted in students. */
+    private int freeTutorDistance;
+
+    /**
+     * Creates a matcher for the given {@code students} and {@code tutors}, which should all be unmatched.
+     */
+    public AutoMatcher(List<Person> students, List<Person> tutors) {
+        requireAllNonNull(students, tutors);
+        studentCount = students.size();
+        tutorCount = tutors.size();
+
+        tutorLevelStart = new int[tutorCount];
+        tutorLevelEnd = new int[tutorCount];
+        tutorPriceMin = new int[tutorCount];
+        tutorPriceMax = new int[tutorCount];
+        Map<Subject, Integer> subjectIds = new HashMap<>();
+        int[] tutorSubject = new int[tutorCount];
+        for (int t = 0; t < tutorCount; t++) {
+            Person tutor = tutors.get(t);
+            tutorSubject[t] = subjectIds.computeIfAbsent(tutor.getSubject(), unused -> subjectIds.size());
+            tutorLevelStart[t] = tutor.getLevel().getStart();
+            tutorLevelEnd[t] = tutor.getLevel().getEnd();
+            tutorPriceMin[t] = tutor.getPrice().getMin();
+            tutorPriceMax[t] = tutor.getPrice().getMax();
+        }
+        buckets = buildBuckets(subjectIds.size(), tutorSubject);
+        skipLinks = new int[buckets.length][];
+        freeTutorLinks = new int[buckets.length][];
+        int[] widestPriceRange = new int[buckets.length];
+        for (int b = 0; b < buckets.length; b++) {
+            skipLinks[b] = new int[buckets[b].length + 1];
+            freeTutorLinks[b] = new int[buckets[b].length + 1];
+            for (int t : buckets[b]) {
+                widestPriceRange[b] = Math.max(widestPriceRange[b], tutorPriceMax[t] - tutorPriceMin[t]);
+            }
+        }
+
+        studentLevelStart = new int[studentCount];
+        studentLevelEnd = new int[studentCount];
+        studentPriceMin = new int[studentCount];
+        studentPriceMax = new int[studentCount];
+        studentBucket = new int[studentCount];
+        studentWindowStart = new int[studentCount];
+        studentWindowEnd = new int[studentCount];
+        for (int s = 0; s < studentCount; s++) {
+            Person student = students.get(s);
+            Level level = student.getLevel();
+            studentLevelStart[s] = level.getStart();
+            studentLevelEnd[s] = level.getEnd();
+            studentPriceMin[s] = student.getPrice().getMin();
+            studentPriceMax[s] = student.getPrice().getMax();
+            Integer subject = subjectIds.get(student.getSubject());
+            if (subject == null) {
+                studentBucket[s] = UNMATCHED;
+                continue;
+            }
+            int b = bucketIndex(subject, level.isSingle() ? level.getStart() : 0);
+            studentBucket[s] = b;
+            // a tutor is too cheap to overlap if even the widest range in the bucket ends below the student's budget
+            studentWindowStart[s] = firstPricedFrom(buckets[b], studentPriceMin[s] - widestPriceRange[b]);
+            studentWindowEnd[s] = firstPricedFrom(buckets[b], studentPriceMax[s] + 1);
+        }
+
+        tutorOfStudent = new int[studentCount];
+        studentOfTutor = new int[tutorCount];
+        distance = new int[studentCount];
+        nextCandidate = new int[studentCount];
+    }
+
+    /**
+     * Computes a maximum matching and returns, for each student, the index of the tutor assigned to them, or -1
+     * if the student could not be matched.
+     */
+    public int[] match() {
+        Arrays.fill(tutorOfStudent, UNMATCHED);
+        Arrays.fill(studentOfTutor, UNMATCHED);
+        resetLinks(freeTutorLinks);
+        matchGreedily();
+        int[] queue = new int[studentCount];
+        while (layerFreeStudents(queue)) {
+            resetLinks(skipLinks);
+            System.arraycopy(studentWindowStart, 0, nextCandidate, 0, studentCount);
+            for (int s = 0; s < studentCount; s++) {
+                if (tutorOfStudent[s] == UNMATCHED) {
+                    augmentFrom(s, queue);
+                }
+            }
+        }
+        return tutorOfStudent.clone();
+    }
+
+    /**
+     * Returns true if {@code tutor}, taken from the window of {@code student}'s bucket, is compatible with them.
+     * The window already guarantees the subject and that the tutor's minimum price is affordable.
+     */
+    private boolean isCompatible(int student, int tutor) {
+        return tutorPriceMax[tutor] >= studentPriceMin[student]
+                && tutorLevelStart[tutor] <= studentLevelEnd[student]
+                && tutorLevelEnd[tutor] >= studentLevelStart[student];
+    }
+
+    private int doubledPriceMidpointGap(int student, int tutor) {
+        return Math.abs(studentPriceMin[student] + studentPriceMax[student]
+                - tutorPriceMin[tutor] - tutorPriceMax[tutor]);
+    }
+
+    /**
+     * Gives each student in turn the free compatible tutor whose price range has the closest midpoint.
+     */
+    private void matchGreedily() {
+        for (int s = 0; s < studentCount; s++) {
+            if (studentBucket[s] == UNMATCHED) {
+                continue;
+            }
+            int[] bucket = buckets[studentBucket[s]];
+            int[] links = freeTutorLinks[studentBucket[s]];
+            int target = studentPriceMin[s] + studentPriceMax[s];
+            int best = UNMATCHED;
+            int bestGap = Integer.MAX_VALUE;
+            for (int i = follow(links, studentWindowStart[s]); i < studentWindowEnd[s]; i = follow(links, i + 1)) {
+                int t = bucket[i];
+                if (2 * tutorPriceMin[t] - target >= bestGap) {
+                    // every later tutor starts at least as high, so none of them can be closer
+                    break;
+                }
+                if (studentOfTutor[t] != UNMATCHED) {
+                    links[i] = i + 1;
+                } else if (isCompatible(s, t) && doubledPriceMidpointGap(s, t) < bestGap) {
+                    best = t;
+                    bestGap = doubledPriceMidpointGap(s, t);
+                }
+            }
+            if (best != UNMATCHED) {
+                tutorOfStudent[s] = best;
+                studentOfTutor[best] = s;
+            }
+        }
+    }
+
+    /**
+     * Computes the breadth-first distance of students from the free students along alternating paths, stopping
+     * at the first layer that reaches a free tutor.
+     *
+     * @return true if some free tutor is reachable, i.e. the matching can still be augmented.
+     */
+    private boolean layerFreeStudents(int[] queue) {
+        resetLinks(skipLinks);
+        int head = 0;
+        int tail = 0;
+        for (int s = 0; s < studentCount; s++) {
+            if (tutorOfStudent[s] == UNMATCHED) {
+                distance[s] = 0;
+                queue[tail++] = s;
+            } else {
+                distance[s] = UNREACHABLE;
+            }
+        }
+
+        freeTutorDistance = UNREACHABLE;
+        while (head < tail) {
+            int s = queue[head++];
+            if (distance[s] >= freeTutorDistance || studentBucket[s] == UNMATCHED) {
+                continue;
+            }
+            int[] bucket = buckets[studentBucket[s]];
+            int[] links = skipLinks[studentBucket[s]];
+            for (int i = follow(links, studentWindowStart[s]); i < studentWindowEnd[s]; i = follow(links, i + 1)) {
+                int t = bucket[i];
+                int mate = studentOfTutor[t];
+                boolean visited = mate == UNMATCHED ? freeTutorDistance != UNREACHABLE : distance[mate] != UNREACHABLE;
+                if (visited) {
+                    links[i] = i + 1;
+                    continue;
+                }
+                if (!isCompatible(s, t)) {
+                    continue;
+                }
+                links[i] = i + 1;
+                if (mate == UNMATCHED) {
+                    freeTutorDistance = distance[s] + 1;
+                } else {
+                    distance[mate] = distance[s] + 1;
+                    queue[tail++] = mate;
+                }
+            }
+        }
+        return freeTutorDistance != UNREACHABLE;
+    }
+
+    /**
+     * Looks for a shortest augmenting path from the free student {@code root} with an explicit stack, and flips
+     * the matching along it if one is found. Students that lead nowhere are marked unreachable for this phase, and
+     * tutors matched with unreachable students are skipped from then on.
+     */
+    private void augmentFrom(int root, int[] stack) {
+        if (studentBucket[root] == UNMATCHED) {
+            return;
+        }
+        int top = 0;
+        stack[top++] = root;
+        while (top > 0) {
+            int s = stack[top - 1];
+            if (distance[s] + 1 == freeTutorDistance) {
+                // only a free tutor can end a shortest path here
+                if (findFreeTutor(s)) {
+                    flipPath(stack, top);
+                    return;
+                }
+            } else if (findTutorOnNextLayer(s)) {
+                stack[top++] = studentOfTutor[buckets[studentBucket[s]][nextCandidate[s]]];
+                continue;
+            }
+            distance[s] = UNREACHABLE;
+            top--;
+            if (top > 0) {
+                nextCandidate[stack[top - 1]]++;
+            }
+        }
+    }
+
+    /**
+     * Points {@code nextCandidate[student]} at a free compatible tutor, if there is one.
+     */
+    private boolean findFreeTutor(int student) {
+        int[] bucket = buckets[studentBucket[student]];
+        int[] links = freeTutorLinks[studentBucket[student]];
+        for (int i = follow(links, studentWindowStart[student]); i < studentWindowEnd[student];
+                i = follow(links, i + 1)) {
+            if (studentOfTutor[bucket[i]] != UNMATCHED) {
+                links[i] = i + 1;
+            } else if (isCompatible(student, bucket[i])) {
+                nextCandidate[student] = i;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Advances {@code nextCandidate[student]} to the next compatible tutor whose student is on the next layer,
+     * if there is one.
+     */
+    private boolean findTutorOnNextLayer(int student) {
+        int[] bucket = buckets[studentBucket[student]];
+        int[] links = skipLinks[studentBucket[student]];
+        int i = follow(links, nextCandidate[student]);
+        for (; i < studentWindowEnd[student]; i = follow(links, i + 1)) {
+            int mate = studentOfTutor[bucket[i]];
+            if (mate == UNMATCHED || distance[mate] == UNREACHABLE) {
+                // free tutors are all further away than the next layer
+                links[i] = i + 1;
+            } else if (distance[mate] == distance[student] + 1 && isCompatible(student, bucket[i])) {
+                break;
+            }
+        }
+        nextCandidate[student] = i;
+        return i < studentWindowEnd[student];
+    }
+
+    /**
+     * Matches every student on the stack with the tutor it is currently looking at.
+     */
+    private void flipPath(int[] stack, int top) {
+        for (int i = top - 1; i >= 0; i--) {
+            int s = stack[i];
+            int t = buckets[studentBucket[s]][nextCandidate[s]];
+            tutorOfStudent[s] = t;
+            studentOfTutor[t] = s;
+        }
+    }
+
+    private static void resetLinks(int[][] allLinks) {
+        for (int[] links : allLinks) {
+            for (int i = 0; i < links.length; i++) {
+                links[i] = i;
+            }
+        }
+    }
+
+    /**
+     * Returns the first position at or after {@code position} that has not been skipped, shortening the links
+     * along the way.
+     */
+    private static int follow(int[] links, int position) {
+        while (links[position] != position) {
+            links[position] = links[links[position]];
+            position = links[position];
+        }
+        return position;
+    }
+
+    private static int bucketIndex(int subject, int level) {
+        return subject * (Level.MAX_LEVEL + 1) + level;
+    }
+
+    /**
+     * Returns the tutors of each subject, sorted by minimum price, at {@code bucketIndex(subject, 0)} and the
+     * tutors of each subject covering each level at {@code bucketIndex(subject, level)}.
+     */
+    private int[][] buildBuckets(int subjectCount, int[] tutorSubject) {
+        Integer[] byPrice = new Integer[tutorCount];
+        for (int t = 0; t < tutorCount; t++) {
+            byPrice[t] = t;
+        }
+        Arrays.sort(byPrice, (a, b) -> Integer.compare(tutorPriceMin[a], tutorPriceMin[b]));
+
+        int[] sizes = new int[subjectCount * (Level.MAX_LEVEL + 1)];
+        for (int t = 0; t < tutorCount; t++) {
+            sizes[bucketIndex(tutorSubject[t], 0)]++;
+            for (int level = tutorLevelStart[t]; level <= tutorLevelEnd[t]; level++) {
+                sizes[bucketIndex(tutorSubject[t], level)]++;
+            }
+        }
+        int[][] result = new int[sizes.length][];
+        for (int b = 0; b < sizes.length; b++) {
+            result[b] = new int[sizes[b]];
+        }
+        int[] filled = new int[sizes.length];
+        for (int t : byPrice) {
+            int all = bucketIndex(tutorSubject[t], 0);
+            result[all][filled[all]++] = t;
+            for (int level = tutorLevelStart[t]; level <= tutorLevelEnd[t]; level++) {
+                int b = bucketIndex(tutorSubject[t], level);
+                result[b][filled[b]++] = t;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the position of the first tutor in {@code bucket} whose minimum price is at least {@code minPrice}.
+     */
+    private int firstPricedFrom(int[] bucket, int minPrice) {
+        int low = 0;
+        int high = bucket.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tutorPriceMin[bucket[mid]] < minPrice) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
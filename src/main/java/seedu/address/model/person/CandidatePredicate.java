@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests whether a {@code Person} is in any of the given candidate sets and also satisfies the given predicate.
+ * The candidate sets are meant to be live views of a model index, so that the predicate is only evaluated for
+ * persons that the index has already selected. Testing every person of the address book is still linear in its
+ * size, but each person outside the candidate sets costs only a few hash lookups.
+ */
+public class CandidatePredicate implements Predicate<Person> {
+    private final List<Set<Person>> candidates;
+    private final Predicate<Person> predicate;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public CandidatePredicate(List<Set<Person>> candidates, Predicate<Person> predicate) {
+        requireAllNonNull(candidates, predicate);
+        this.candidates = candidates;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Set<Person> candidateSet : candidates) {
+            if (candidateSet.contains(person)) {
+                return predicate.test(person);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CandidatePredicate)) {
+            return false;
+        }
+
+        CandidatePredicate otherCandidatePredicate = (CandidatePredicate) other;
+        return candidates.equals(otherCandidatePredicate.candidates)
+                && predicate.equals(otherCandidatePredicate.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("candidates", candidates.stream().mapToInt(Set::size).sum())
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents two persons that share a unique identity field and so cannot both be in the address book.
+ */
+public class IdentityClash {
+
+    private final Person first;
+    private final Person second;
+    private final IdentityField field;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public IdentityClash(Person first, Person second, IdentityField field) {
+        requireAllNonNull(first, second, field);
+        this.first = first;
+        this.second = second;
+        this.field = field;
+    }
+
+    public Person getFirst() {
+        return first;
+    }
+
+    public Person getSecond() {
+        return second;
+    }
+
+    public IdentityField getField() {
+        return field;
+    }
+
+    /**
+     * Returns a short user-facing description of this clash.
+     */
+    public String describe() {
+        return first.getName() + " and " + second.getName() + " share the same " + field;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IdentityClash)) {
+            return false;
+        }
+
+        IdentityClash otherClash = (IdentityClash) other;
+        return first.equals(otherClash.first)
+                && second.equals(otherClash.second)
+                && field == otherClash.field;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first, second, field);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("first", first.getName())
+                .add("second", second.getName())
+                .add("field", field)
+                .toString();
+    }
+}
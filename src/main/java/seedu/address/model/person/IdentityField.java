@@ -0,0 +1,21 @@
+package seedu.address.model.person;
+
+/**
+ * Represents an identity field of a {@code Person} that must not be shared with another person in the address book.
+ */
+public enum IdentityField {
+    NAME("name"),
+    PHONE("phone"),
+    EMAIL("email");
+
+    private final String description;
+
+    IdentityField(String description) {
+        this.description = description;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
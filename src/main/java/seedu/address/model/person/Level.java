@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Level or a range of Levels for a Person.
  */
@@ -10,8 +12,12 @@ public class Level {
             "Level must be a positive integer or a range start-end (e.g., 3 or 1-6) with start <= end.";
     public static final String MESSAGE_STUDENT_SINGLE_LEVEL =
             "Students can only have a single level (e.g., 3), not a range.";
-    private static final int MIN_LEVEL = 1;
-    private static final int MAX_LEVEL = 6;
+    public static final int MIN_LEVEL = 1;
+    public static final int MAX_LEVEL = 6;
+    /** Number of bits taken by {@link #getSortKey()}. */
+    public static final int SORT_KEY_BITS = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(MAX_LEVEL));
+    private static final Pattern SINGLE_PATTERN = Pattern.compile("\\d+");
+    private static final Pattern RANGE_PATTERN = Pattern.compile("\\d+\\s*-\\s*\\d+");
 
     private final int start; // inclusive
     private final int end; // inclusive
@@ -32,6 +38,21 @@ public class Level {
         this.end = end;
     }
 
+    public int getStart() {
+        return start;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns a non-negative key of {@link #SORT_KEY_BITS} bits that orders levels by start, then by end.
+     */
+    public int getSortKey() {
+        return start << (SORT_KEY_BITS / 2) | end;
+    }
+
     /**
      * Returns true if the given level string is valid.
      * @param levelString Level inputted.
@@ -65,12 +86,12 @@ public class Level {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
         // Single value?
-        if (s.matches("\\d+")) {
+        if (SINGLE_PATTERN.matcher(s).matches()) {
             int v = Integer.parseInt(s);
             return new Level(v, v);
         }
         // Range?
-        if (s.matches("\\d+\\s*-\\s*\\d+")) {
+        if (RANGE_PATTERN.matcher(s).matches()) {
             String[] parts = s.split("-");
             int a = Integer.parseInt(parts[0].trim());
             int b = Integer.parseInt(parts[1].trim());
@@ -229,10 +229,6 @@ public class Person {
         this.session = session;
     }
 
-    public void clearSession() {
-        this.session = null;
-    }
-
 
     /**
      * Returns true if both persons have the same name, phone, or email.
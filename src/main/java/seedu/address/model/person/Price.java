@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an hourly rate (in integer dollars) as either a single value or a range [min-max], inclusive.
  * Examples: "35", "30-45".
@@ -11,6 +13,12 @@ public class Price {
             "Price must be a positive integer greater than 0 and no more than 200 "
                     + "or a range min-max (e.g., 35 or 30-45) with min <= max.";
     public static final String VALIDATION_REGEX = "\\d+|\\d+\\s*-\\s*\\d+";
+    public static final int MAX_PRICE = 200;
+    /** Number of bits taken by {@link #getSortKey()}. */
+    public static final int SORT_KEY_BITS = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(MAX_PRICE));
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern SINGLE_PATTERN = Pattern.compile("\\d+");
+    private static final Pattern RANGE_PATTERN = Pattern.compile("\\d+\\s*-\\s*\\d+");
 
     private final int min; // inclusive
     private final int max; // inclusive
@@ -21,13 +29,28 @@ public class Price {
      * @param max A valid max of the price range.
      */
     public Price(int min, int max) {
-        if (min <= 0 || max <= 0 || min > max || max > 200) {
+        if (min <= 0 || max <= 0 || min > max || max > MAX_PRICE) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
         this.min = min;
         this.max = max;
     }
 
+    public int getMin() {
+        return min;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * Returns a non-negative key of {@link #SORT_KEY_BITS} bits that orders prices by min, then by max.
+     */
+    public int getSortKey() {
+        return min << (SORT_KEY_BITS / 2) | max;
+    }
+
     /**
      * Returns true if the given price string is valid.
      * @param test String inputted.
@@ -37,7 +60,7 @@ public class Price {
         if (test == null || test.trim().isEmpty()) {
             return false;
         }
-        if (!test.matches(VALIDATION_REGEX)) {
+        if (!VALIDATION_PATTERN.matcher(test).matches()) {
             return false;
         }
         try {
@@ -60,11 +83,11 @@ public class Price {
         if (s.isEmpty()) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
-        if (s.matches("\\d+")) {
+        if (SINGLE_PATTERN.matcher(s).matches()) {
             int v = Integer.parseInt(s);
             return new Price(v, v);
         }
-        if (s.matches("\\d+\\s*-\\s*\\d+")) {
+        if (RANGE_PATTERN.matcher(s).matches()) {
             String[] parts = s.split("-");
             int a = Integer.parseInt(parts[0].trim());
             int b = Integer.parseInt(parts[1].trim());
@@ -0,0 +1,146 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * An index over an inclusive integer range of each tutor and student, such as their level or price range.
+ * Ranges must lie within {@code [1, maxValue]}, so every distinct range can have its own bucket of persons.
+ * Finding who overlaps a query range then visits at most {@code maxValue} rows of non-empty buckets,
+ * however many persons are indexed.
+ */
+class RangeIndex {
+
+    private final int maxValue;
+    private final ToIntFunction<Person> lowerBound;
+    private final ToIntFunction<Person> upperBound;
+    private final Buckets tutors;
+    private final Buckets students;
+
+    /**
+     * Creates an index over ranges in {@code [1, maxValue]}, read from each person by {@code lowerBound} and
+     * {@code upperBound}.
+     */
+    RangeIndex(int maxValue, ToIntFunction<Person> lowerBound, ToIntFunction<Person> upperBound) {
+        this.maxValue = maxValue;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        tutors = new Buckets();
+        students = new Buckets();
+    }
+
+    void add(Person person) {
+        Buckets buckets = bucketsFor(person);
+        if (buckets != null) {
+            buckets.add(lowerBound.applyAsInt(person), upperBound.applyAsInt(person), person);
+        }
+    }
+
+    void remove(Person person) {
+        Buckets buckets = bucketsFor(person);
+        if (buckets != null) {
+            buckets.remove(lowerBound.applyAsInt(person), upperBound.applyAsInt(person), person);
+        }
+    }
+
+    void clear() {
+        tutors.clear();
+        students.clear();
+    }
+
+    /**
+     * Returns the number of tutors (or students) whose range overlaps {@code [from, to]}.
+     */
+    int count(boolean ofTutors, int from, int to) {
+        int[] count = new int[1];
+        (ofTutors ? tutors : students).forEachOverlapping(from, to, bucket -> count[0] += bucket.size());
+        return count[0];
+    }
+
+    /**
+     * Adds the tutors (or students) whose range overlaps {@code [from, to]} to {@code result}.
+     */
+    void collect(boolean ofTutors, int from, int to, Collection<Person> result) {
+        (ofTutors ? tutors : students).forEachOverlapping(from, to, result::addAll);
+    }
+
+    private Buckets bucketsFor(Person person) {
+        if (person.isTutor()) {
+            return tutors;
+        }
+        return person.isStudent() ? students : null;
+    }
+
+    /**
+     * Persons of one role, bucketed by their exact range.
+     */
+    private class Buckets {
+        private final Set<?>[] buckets = new Set<?>[(maxValue + 1) * (maxValue + 1)];
+        /** For each lower bound, the upper bounds that have a non-empty bucket. */
+        private final BitSet[] upperBoundsByLowerBound = new BitSet[maxValue + 1];
+
+        void add(int lower, int upper, Person person) {
+            int slot = slot(lower, upper);
+            if (buckets[slot] == null) {
+                buckets[slot] = Collections.newSetFromMap(new IdentityHashMap<Person, Boolean>());
+            }
+            bucket(slot).add(person);
+            if (upperBoundsByLowerBound[lower] == null) {
+                upperBoundsByLowerBound[lower] = new BitSet(maxValue + 1);
+            }
+            upperBoundsByLowerBound[lower].set(upper);
+        }
+
+        void remove(int lower, int upper, Person person) {
+            Set<Person> bucket = bucket(slot(lower, upper));
+            if (bucket != null && bucket.remove(person) && bucket.isEmpty()) {
+                upperBoundsByLowerBound[lower].clear(upper);
+            }
+        }
+
+        void clear() {
+            for (int lower = 1; lower <= maxValue; lower++) {
+                BitSet upperBounds = upperBoundsByLowerBound[lower];
+                if (upperBounds == null) {
+                    continue;
+                }
+                for (int upper = upperBounds.nextSetBit(0); upper >= 0; upper = upperBounds.nextSetBit(upper + 1)) {
+                    bucket(slot(lower, upper)).clear();
+                }
+                upperBounds.clear();
+            }
+        }
+
+        /**
+         * Passes every non-empty bucket whose range overlaps {@code [from, to]} to {@code action}.
+         * A range {@code [lower, upper]} overlaps it when {@code lower <= to} and {@code upper >= from}.
+         */
+        void forEachOverlapping(int from, int to, Consumer<Set<Person>> action) {
+            int lastLower = Math.min(to, maxValue);
+            for (int lower = 1; lower <= lastLower; lower++) {
+                BitSet upperBounds = upperBoundsByLowerBound[lower];
+                if (upperBounds == null) {
+                    continue;
+                }
+                for (int upper = upperBounds.nextSetBit(Math.max(from, lower)); upper >= 0;
+                        upper = upperBounds.nextSetBit(upper + 1)) {
+                    action.accept(bucket(slot(lower, upper)));
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Set<Person> bucket(int slot) {
+            return (Set<Person>) buckets[slot];
+        }
+
+        private int slot(int lower, int upper) {
+            return lower * (maxValue + 1) + upper;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Subject object for a Person.
  */
@@ -9,6 +11,7 @@ import static java.util.Objects.requireNonNull;
 public class Subject {
     public static final String MESSAGE_CONSTRAINTS = "Invalid subject.";
     public static final String VALIDATION_REGEX = "(?i)(english|science|mathematics)";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String subject;
 
     /**
@@ -24,7 +27,7 @@ public class Subject {
         this.subject = s;
     }
     public static boolean isValidSubject(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
     @Override public String toString() {
         return subject;
@@ -0,0 +1,65 @@
+package seedu.address.model.person;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from each subject to the tutors and to the students with that subject.
+ * Persons are held by reference, as their level, price and match status may change in place.
+ * The sets returned are live, unmodifiable views that follow later changes to the index.
+ */
+class SubjectIndex {
+
+    private final Map<Subject, Set<Person>> tutorsBySubject = new HashMap<>();
+    private final Map<Subject, Set<Person>> studentsBySubject = new HashMap<>();
+
+    /**
+     * Returns the tutors with {@code subject}.
+     */
+    Set<Person> getTutors(Subject subject) {
+        return Collections.unmodifiableSet(bucket(tutorsBySubject, subject));
+    }
+
+    /**
+     * Returns the students with {@code subject}.
+     */
+    Set<Person> getStudents(Subject subject) {
+        return Collections.unmodifiableSet(bucket(studentsBySubject, subject));
+    }
+
+    void add(Person person) {
+        Map<Subject, Set<Person>> index = indexFor(person);
+        if (index != null) {
+            bucket(index, person.getSubject()).add(person);
+        }
+    }
+
+    void remove(Person person) {
+        Map<Subject, Set<Person>> index = indexFor(person);
+        if (index != null && index.containsKey(person.getSubject())) {
+            index.get(person.getSubject()).remove(person);
+        }
+    }
+
+    /**
+     * Removes every person, keeping the buckets so that views handed out earlier stay live.
+     */
+    void clear() {
+        tutorsBySubject.values().forEach(Set::clear);
+        studentsBySubject.values().forEach(Set::clear);
+    }
+
+    private Map<Subject, Set<Person>> indexFor(Person person) {
+        if (person.isTutor()) {
+            return tutorsBySubject;
+        }
+        return person.isStudent() ? studentsBySubject : null;
+    }
+
+    private static Set<Person> bucket(Map<Subject, Set<Person>> index, Subject subject) {
+        return index.computeIfAbsent(subject, unused -> Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+}
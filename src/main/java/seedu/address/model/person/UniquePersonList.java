@@ -1,16 +1,26 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.statistics.RunningStatistics;
+import seedu.address.model.statistics.StudentStatistics;
+import seedu.address.model.statistics.TutorStatistics;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -19,6 +29,12 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Secondary hash indexes on name, phone and email are kept in sync with the list so that identity lookups do not
+ * need to scan every person. Phone and email are unique across the list, while names may be shared. An inverted
+ * index from subject to tutors and students, and range indexes over levels and prices, back compatibility queries.
+ * Running totals per role back the statistics of the list.
+ * All indexes are updated before the list itself changes, so listeners of the list already see up-to-date indexes.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -29,12 +45,23 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<Phone, Person> personsByPhone = new HashMap<>();
+    private final Map<Email, Person> personsByEmail = new HashMap<>();
+    private final Map<Name, List<Person>> personsByName = new HashMap<>();
+    private final SubjectIndex subjectIndex = new SubjectIndex();
+    private final RangeIndex levelIndex = new RangeIndex(Level.MAX_LEVEL,
+            person -> person.getLevel().getStart(), person -> person.getLevel().getEnd());
+    private final RangeIndex priceIndex = new RangeIndex(Price.MAX_PRICE,
+            person -> person.getPrice().getMin(), person -> person.getPrice().getMax());
+    private final RunningStatistics statistics = new RunningStatistics();
+    private long version;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByPhone.containsKey(toCheck.getPhone()) || personsByEmail.containsKey(toCheck.getEmail());
     }
 
     /**
@@ -43,21 +70,18 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Person getRepeatedPerson(Person toCheck) {
         requireNonNull(toCheck);
-        for (Person person : internalList) {
-            if (toCheck.isSamePerson(person)) {
-                return person;
-            }
-        }
-        return null;
+        Person samePhone = personsByPhone.get(toCheck.getPhone());
+        return samePhone != null ? samePhone : personsByEmail.get(toCheck.getEmail());
     }
 
     /**
-     * Returns true if the list contains an equivalent person as the given argument.
+     * Returns the value of the identity field that {@code toCheck} shares with a person in the list.
+     * The phone number is reported if it is repeated, otherwise the email is reported.
      */
     public String getRepeatedEntry(Person toCheck) {
         requireNonNull(toCheck);
         String repeated;
-        if (internalList.stream().anyMatch(toCheck::isSamePhone)) {
+        if (personsByPhone.containsKey(toCheck.getPhone())) {
             repeated = toCheck.getPhone().value;
         } else {
             repeated = toCheck.getEmail().value;
@@ -66,18 +90,106 @@ public class UniquePersonList implements Iterable<Person> {
         return repeated;
     }
 
+    /**
+     * Returns the first identity field (name, then phone, then email) that {@code toCheck} shares with a person
+     * in the list other than {@code excluded}, or {@code Optional.empty()} if there is no such person.
+     * {@code excluded} is compared by reference and may be null.
+     */
+    public Optional<IdentityField> findIdentityClash(Person toCheck, Person excluded) {
+        requireNonNull(toCheck);
+        for (Person sameName : personsByName.getOrDefault(toCheck.getName(), List.of())) {
+            if (sameName != excluded) {
+                return Optional.of(IdentityField.NAME);
+            }
+        }
+        return findUniqueFieldClash(toCheck, excluded);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the tutors in the list with {@code subject}.
+     */
+    public Set<Person> getTutorsWithSubject(Subject subject) {
+        requireNonNull(subject);
+        return subjectIndex.getTutors(subject);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the students in the list with {@code subject}.
+     */
+    public Set<Person> getStudentsWithSubject(Subject subject) {
+        requireNonNull(subject);
+        return subjectIndex.getStudents(subject);
+    }
+
+    /**
+     * Returns the statistics of the tutors in the list, which are kept up to date as the list changes.
+     */
+    public TutorStatistics getTutorStatistics() {
+        return statistics.getTutorStatistics();
+    }
+
+    /**
+     * Returns the statistics of the students in the list, which are kept up to date as the list changes.
+     */
+    public StudentStatistics getStudentStatistics() {
+        return statistics.getStudentStatistics();
+    }
+
+    /**
+     * Returns the tutors in the list with {@code subject}, a level range intersecting {@code level} and a price
+     * range overlapping {@code price}, in no particular order. A null requirement is not checked.
+     */
+    public List<Person> findTutors(Subject subject, Level level, Price price) {
+        return findCompatible(true, subject, level, price);
+    }
+
+    /**
+     * Returns the students in the list with {@code subject}, a level intersecting {@code level} and a price
+     * range overlapping {@code price}, in no particular order. A null requirement is not checked.
+     */
+    public List<Person> findStudents(Subject subject, Level level, Price price) {
+        return findCompatible(false, subject, level, price);
+    }
+
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            throw new DuplicatePersonException();
+        Optional<IdentityField> clash = findUniqueFieldClash(toAdd, null);
+        if (clash.isPresent()) {
+            throw new DuplicatePersonException(clash.get());
         }
+        index(toAdd);
+        version++;
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list in order, as one change to the list.
+     * None of them may already exist in the list or share a phone number or email with one another.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        List<IdentityClash> clashes = findClashes(toAdd);
+        if (!clashes.isEmpty()) {
+            throw new DuplicatePersonException(clashes);
+        }
+        for (Person person : toAdd) {
+            Optional<IdentityField> clash = findUniqueFieldClash(person, null);
+            if (clash.isPresent()) {
+                throw new DuplicatePersonException(clash.get());
+            }
+        }
+
+        for (Person person : toAdd) {
+            index(person);
+        }
+        version++;
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -91,26 +203,78 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
-            throw new DuplicatePersonException();
+        Person existing = internalList.get(index);
+        Optional<IdentityField> clash = findUniqueFieldClash(editedPerson, existing);
+        if (clash.isPresent()) {
+            throw new DuplicatePersonException(clash.get());
         }
 
+        unindex(existing);
+        index(editedPerson);
+        version++;
         internalList.set(index, editedPerson);
     }
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons},
+     * notifying listeners of the list once. Every target must be in the list (compared by reference).
+     * The edited persons must not share an identity with each other or with any person that is not replaced,
+     * otherwise the list is left unchanged.
+     */
+    public void replacePersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+        checkArgument(targets.size() == editedPersons.size(), "Each target needs exactly one edited person.");
+
+        Map<Person, Person> replacements = new IdentityHashMap<>(targets.size() * 2);
+        for (int i = 0; i < targets.size(); i++) {
+            replacements.put(requireNonNull(targets.get(i)), requireNonNull(editedPersons.get(i)));
+        }
+        List<Person> updated = new ArrayList<>(internalList.size());
+        int replaced = 0;
+        for (Person person : internalList) {
+            Person replacement = replacements.get(person);
+            if (replacement != null) {
+                replaced++;
+            }
+            updated.add(replacement != null ? replacement : person);
+        }
+        if (replaced != replacements.size()) {
+            throw new PersonNotFoundException();
+        }
+
+        targets.forEach(this::unindex);
+        for (int i = 0; i < editedPersons.size(); i++) {
+            Optional<IdentityField> clash = findUniqueFieldClash(editedPersons.get(i), null);
+            if (clash.isPresent()) {
+                editedPersons.subList(0, i).forEach(this::unindex);
+                targets.forEach(this::index);
+                throw new DuplicatePersonException(clash.get());
+            }
+            index(editedPersons.get(i));
+        }
+        version++;
+        internalList.setAll(updated);
+    }
+
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        unindex(internalList.get(index));
+        version++;
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
+        version++;
         internalList.setAll(replacement.internalList);
     }
 
@@ -120,17 +284,45 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<IdentityClash> clashes = findClashes(persons);
+        if (!clashes.isEmpty()) {
+            throw new DuplicatePersonException(clashes);
         }
 
+        rebuildIndexes(persons);
+        version++;
         internalList.setAll(persons);
     }
 
+    /**
+     * Records that {@code person}, who must be in the list, is matched with {@code mate}, keeping the statistics of
+     * the list in step. Unlike {@link #setPerson(Person, Person)}, this changes the person in place, which is only
+     * safe before anything has seen the person unmatched, such as while restoring matches when loading.
+     */
+    public void restoreMatch(Person person, Person mate) {
+        requireAllNonNull(person, mate);
+        statistics.remove(person);
+        person.setMatchedPerson(mate);
+        statistics.add(person);
+    }
+
+    /**
+     * Sorts the list using {@code comparator}.
+     * The identity indexes are keyed by field values rather than positions, so they are unaffected.
+     */
     public void sort(Comparator<Person> comparator) {
+        version++;
         internalList.sort(comparator);
     }
 
+    /**
+     * Returns a number that changes whenever the contents or order of the list change, so that callers can tell
+     * whether the list has changed since they last looked.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -169,16 +361,122 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns every pair of persons in {@code persons} that share a phone number or email, in list order.
+     * A pair sharing both is reported once, as a phone clash.
+     * Runs in time linear in the size of {@code persons} plus the number of pairs reported.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
+    private static List<IdentityClash> findClashes(List<Person> persons) {
+        Map<Phone, List<Person>> seenByPhone = new HashMap<>(persons.size() * 2);
+        Map<Email, List<Person>> seenByEmail = new HashMap<>(persons.size() * 2);
+        List<IdentityClash> clashes = new ArrayList<>();
+        for (Person person : persons) {
+            List<Person> samePhone = seenByPhone.computeIfAbsent(person.getPhone(), unused -> new ArrayList<>(1));
+            List<Person> sameEmail = seenByEmail.computeIfAbsent(person.getEmail(), unused -> new ArrayList<>(1));
+            for (Person earlier : samePhone) {
+                clashes.add(new IdentityClash(earlier, person, IdentityField.PHONE));
+            }
+            for (Person earlier : sameEmail) {
+                if (!earlier.getPhone().equals(person.getPhone())) {
+                    clashes.add(new IdentityClash(earlier, person, IdentityField.EMAIL));
                 }
             }
+            samePhone.add(person);
+            sameEmail.add(person);
+        }
+        return clashes;
+    }
+
+    /**
+     * Starts from whichever of the subject, level and price indexes selects the fewest persons of the role,
+     * then checks the remaining requirements on those persons only.
+     */
+    private List<Person> findCompatible(boolean ofTutors, Subject subject, Level level, Price price) {
+        int subjectCount = Integer.MAX_VALUE;
+        Set<Person> sameSubject = null;
+        if (subject != null) {
+            sameSubject = ofTutors ? subjectIndex.getTutors(subject) : subjectIndex.getStudents(subject);
+            subjectCount = sameSubject.size();
+        }
+        int levelCount = level == null
+                ? Integer.MAX_VALUE
+                : levelIndex.count(ofTutors, level.getStart(), level.getEnd());
+        int priceCount = price == null
+                ? Integer.MAX_VALUE
+                : priceIndex.count(ofTutors, price.getMin(), price.getMax());
+
+        List<Person> candidates = new ArrayList<>();
+        if (sameSubject != null && subjectCount <= levelCount && subjectCount <= priceCount) {
+            candidates.addAll(sameSubject);
+        } else if (level != null && levelCount <= priceCount) {
+            levelIndex.collect(ofTutors, level.getStart(), level.getEnd(), candidates);
+        } else if (price != null) {
+            priceIndex.collect(ofTutors, price.getMin(), price.getMax(), candidates);
+        } else {
+            for (Person person : internalList) {
+                if (ofTutors ? person.isTutor() : person.isStudent()) {
+                    candidates.add(person);
+                }
+            }
+        }
+
+        candidates.removeIf(person -> (subject != null && !person.getSubject().equals(subject))
+                || (level != null && !person.getLevel().intersects(level))
+                || (price != null && !person.getPrice().overlaps(price)));
+        return candidates;
+    }
+
+    /**
+     * Returns the unique identity field (phone, then email) that {@code toCheck} shares with a person in the list
+     * other than {@code excluded}.
+     */
+    private Optional<IdentityField> findUniqueFieldClash(Person toCheck, Person excluded) {
+        Person samePhone = personsByPhone.get(toCheck.getPhone());
+        if (samePhone != null && samePhone != excluded) {
+            return Optional.of(IdentityField.PHONE);
+        }
+        Person sameEmail = personsByEmail.get(toCheck.getEmail());
+        if (sameEmail != null && sameEmail != excluded) {
+            return Optional.of(IdentityField.EMAIL);
+        }
+        return Optional.empty();
+    }
+
+    private void index(Person person) {
+        personsByPhone.put(person.getPhone(), person);
+        personsByEmail.put(person.getEmail(), person);
+        personsByName.computeIfAbsent(person.getName(), unused -> new ArrayList<>(1)).add(person);
+        subjectIndex.add(person);
+        levelIndex.add(person);
+        priceIndex.add(person);
+        statistics.add(person);
+    }
+
+    private void unindex(Person person) {
+        personsByPhone.remove(person.getPhone(), person);
+        personsByEmail.remove(person.getEmail(), person);
+        List<Person> sameName = personsByName.get(person.getName());
+        if (sameName != null) {
+            sameName.removeIf(p -> p == person);
+            if (sameName.isEmpty()) {
+                personsByName.remove(person.getName());
+            }
+        }
+        subjectIndex.remove(person);
+        levelIndex.remove(person);
+        priceIndex.remove(person);
+        statistics.remove(person);
+    }
+
+    private void rebuildIndexes(List<Person> persons) {
+        personsByPhone.clear();
+        personsByEmail.clear();
+        personsByName.clear();
+        subjectIndex.clear();
+        levelIndex.clear();
+        priceIndex.clear();
+        statistics.clear();
+        for (Person person : persons) {
+            index(person);
         }
-        return true;
     }
 }
@@ -1,11 +1,45 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.IdentityClash;
+import seedu.address.model.person.IdentityField;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<IdentityClash> clashes;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        clashes = List.of();
+    }
+
+    /**
+     * Creates an exception that reports the identity {@code field} shared with an existing person.
+     */
+    public DuplicatePersonException(IdentityField field) {
+        super("Operation would result in duplicate persons (same " + field + ")");
+        clashes = List.of();
+    }
+
+    /**
+     * Creates an exception that reports every pair of persons in {@code clashes}.
+     */
+    public DuplicatePersonException(List<IdentityClash> clashes) {
+        super("Operation would result in duplicate persons: " + clashes.stream()
+                .map(IdentityClash::describe)
+                .collect(Collectors.joining("; ")));
+        this.clashes = List.copyOf(clashes);
+    }
+
+    /**
+     * Returns the offending pairs of persons, or an empty list if they were not collected.
+     */
+    public List<IdentityClash> getClashes() {
+        return clashes;
     }
 }
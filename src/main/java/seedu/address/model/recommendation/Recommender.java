@@ -0,0 +1,138 @@
+package seedu.address.model.recommendation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Price;
+
+/**
+ * Ranks candidate tutors (or students) by how well they suit a given person.
+ * <p>
+ * The score lies between 0 and 1 and is a weighted sum of:
+ * <ul>
+ *     <li>whether the candidate has the same subject,</li>
+ *     <li>how much of the person's level range the candidate's level range covers,</li>
+ *     <li>how much of the person's price range the candidate's price range covers, and</li>
+ *     <li>whether the candidate is free to take on a session, i.e. is not matched and has no session.</li>
+ * </ul>
+ */
+public class Recommender {
+
+    public static final double SUBJECT_WEIGHT = 0.4;
+    public static final double LEVEL_WEIGHT = 0.2;
+    public static final double PRICE_WEIGHT = 0.3;
+    public static final double SESSION_WEIGHT = 0.1;
+
+    /** Candidate counts below this are scored on the calling thread, as splitting them costs more than it saves. */
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    private final Person person;
+
+    /**
+     * Creates a {@code Recommender} that ranks candidates for {@code person}.
+     */
+    public Recommender(Person person) {
+        requireNonNull(person);
+        this.person = person;
+    }
+
+    /**
+     * Returns the compatibility score of {@code candidate} for the person, between 0 and 1.
+     */
+    public double score(Person candidate) {
+        double score = 0;
+        if (person.getSubject().equals(candidate.getSubject())) {
+            score += SUBJECT_WEIGHT;
+        }
+        Level level = person.getLevel();
+        Level candidateLevel = candidate.getLevel();
+        score += LEVEL_WEIGHT * coveredFraction(level.getStart(), level.getEnd(),
+                candidateLevel.getStart(), candidateLevel.getEnd());
+        Price price = person.getPrice();
+        Price candidatePrice = candidate.getPrice();
+        score += PRICE_WEIGHT * coveredFraction(price.getMin(), price.getMax(),
+                candidatePrice.getMin(), candidatePrice.getMax());
+        if (candidate.getMatchedPerson() == null && candidate.getSession() == null) {
+            score += SESSION_WEIGHT;
+        }
+        return score;
+    }
+
+    /**
+     * Returns the {@code k} best-scoring {@code candidates}, best first.
+     * Each thread keeps its own heap of at most {@code k} candidates, and the heaps are merged at the end,
+     * so memory use depends on {@code k} and the number of threads rather than on the number of candidates.
+     * A {@code k} larger than the number of candidates is treated as that number.
+     */
+    public List<ScoredPerson> topK(Collection<Person> candidates, int k) {
+        requireNonNull(candidates);
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        // no heap needs to hold more than every candidate, however large the requested k
+        int bound = Math.min(k, candidates.size());
+
+        TopK top;
+        if (candidates.size() < PARALLEL_THRESHOLD) {
+            top = new TopK(bound);
+            for (Person candidate : candidates) {
+                top.offer(new ScoredPerson(candidate, score(candidate)));
+            }
+        } else {
+            top = candidates.parallelStream()
+                    .map(candidate -> new ScoredPerson(candidate, score(candidate)))
+                    .collect(() -> new TopK(bound), TopK::offer, TopK::merge);
+        }
+        return top.toSortedList();
+    }
+
+    /**
+     * Returns the fraction of {@code [from, to]} that {@code [otherFrom, otherTo]} covers.
+     */
+    private static double coveredFraction(int from, int to, int otherFrom, int otherTo) {
+        int overlap = Math.min(to, otherTo) - Math.max(from, otherFrom) + 1;
+        return overlap <= 0 ? 0 : (double) overlap / (to - from + 1);
+    }
+
+    /**
+     * A bounded min-heap that keeps the best {@code k} scored persons offered to it.
+     */
+    private static class TopK {
+        private final int k;
+        private final PriorityQueue<ScoredPerson> heap;
+
+        TopK(int k) {
+            this.k = k;
+            // the head of the heap is the worst of the best k seen so far
+            heap = new PriorityQueue<>(k + 1, ScoredPerson.BEST_FIRST.reversed());
+        }
+
+        void offer(ScoredPerson scored) {
+            if (heap.size() < k) {
+                heap.add(scored);
+            } else if (ScoredPerson.BEST_FIRST.compare(scored, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(scored);
+            }
+        }
+
+        void merge(TopK other) {
+            other.heap.forEach(this::offer);
+        }
+
+        List<ScoredPerson> toSortedList() {
+            List<ScoredPerson> sorted = new ArrayList<>(heap);
+            sorted.sort(ScoredPerson.BEST_FIRST);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.recommendation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A candidate person together with its compatibility score for a recommendation.
+ */
+public class ScoredPerson {
+
+    /** Orders better recommendations first: higher score, then by name and phone so that ties are stable. */
+    public static final Comparator<ScoredPerson> BEST_FIRST = Comparator
+            .comparingDouble(ScoredPerson::getScore).reversed()
+            .thenComparing(scored -> scored.getPerson().getName().fullName)
+            .thenComparing(scored -> scored.getPerson().getPhone().value);
+
+    private final Person person;
+    private final double score;
+
+    /**
+     * Creates a {@code ScoredPerson} for {@code person} with the given {@code score}.
+     */
+    public ScoredPerson(Person person, double score) {
+        requireNonNull(person);
+        this.person = person;
+        this.score = score;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScoredPerson)) {
+            return false;
+        }
+
+        ScoredPerson otherScoredPerson = (ScoredPerson) other;
+        return person.equals(otherScoredPerson.person)
+                && Double.compare(score, otherScoredPerson.score) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return person.hashCode() * 31 + Double.hashCode(score);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("person", person.getName())
+                .add("score", score)
+                .toString();
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.model.statistics;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * An immutable count of how many times each value in a small, fixed range of integers occurs, such as the hourly
+ * rates from 1 to 200 or the levels from 1 to 6.
+ */
+public class Histogram {
+
+    public static final String MESSAGE_INVALID_PERCENTILE = "Percentile must be between 1 and 100.";
+
+    private final int lowest;
+    private final int[] counts;
+    private final int total;
+
+    /**
+     * Creates a histogram of the values from {@code lowest} to {@code lowest + counts.length - 1}, in which the
+     * value {@code lowest + i} occurs {@code counts[i]} times. {@code counts} is copied.
+     */
+    public Histogram(int lowest, int[] counts) {
+        this.lowest = lowest;
+        this.counts = counts.clone();
+        this.total = Arrays.stream(counts).sum();
+    }
+
+    /**
+     * Creates a histogram of the values from {@code lowest} to {@code highest} in which no value occurs.
+     */
+    public static Histogram empty(int lowest, int highest) {
+        return new Histogram(lowest, new int[highest - lowest + 1]);
+    }
+
+    public int getLowest() {
+        return lowest;
+    }
+
+    public int getHighest() {
+        return lowest + counts.length - 1;
+    }
+
+    /**
+     * Returns the number of times {@code value} occurs, which is 0 for values outside the range.
+     */
+    public int getCount(int value) {
+        return value < lowest || value > getHighest() ? 0 : counts[value - lowest];
+    }
+
+    /**
+     * Returns the number of times the values from {@code from} to {@code to}, inclusive, occur.
+     */
+    public int getCountBetween(int from, int to) {
+        int count = 0;
+        for (int value = Math.max(from, lowest); value <= Math.min(to, getHighest()); value++) {
+            count += counts[value - lowest];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the total number of values counted.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the smallest value that at least {@code percent} percent of the values counted are no greater than,
+     * or 0 if no value has been counted.
+     */
+    public int getPercentile(int percent) {
+        checkArgument(percent >= 1 && percent <= 100, MESSAGE_INVALID_PERCENTILE);
+        if (total == 0) {
+            return 0;
+        }
+        // nearest rank: the value at position ceil(percent / 100 * total), counting from 1
+        long rank = ((long) percent * total + 99) / 100;
+        int seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return lowest + i;
+            }
+        }
+        return getHighest();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Histogram)) {
+            return false;
+        }
+
+        Histogram otherHistogram = (Histogram) other;
+        return lowest == otherHistogram.lowest && Arrays.equals(counts, otherHistogram.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * lowest + Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                if (sb.length() > 0) {
+                    sb.append(", ");
+                }
+                sb.append(lowest + i).append(" (").append(counts[i]).append(')');
+            }
+        }
+        return sb.length() == 0 ? "N/A" : sb.toString();
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Price;
+
+/**
+ * The distributions of the hourly rates and levels of the persons of one role, overall and for each subject.
+ * The rate of a person is the midpoint of their price range, as for the average price, and a person counts
+ * towards every level in their level range.
+ */
+public class RoleDistributions {
+
+    public static final RoleDistributions EMPTY = new RoleDistributions(emptyRates(), emptyLevels(), Map.of(),
+            Map.of());
+
+    private static final int[] PERCENTILES = {50, 90, 99};
+
+    private final Histogram rates;
+    private final Histogram levelCoverage;
+    private final Map<String, Histogram> ratesBySubject;
+    private final Map<String, Histogram> levelCoverageBySubject;
+
+    /**
+     * Creates distributions from the histograms of all persons of the role and of those with each subject.
+     * The two maps must have the same subjects, which are listed in the iteration order of {@code ratesBySubject}.
+     */
+    public RoleDistributions(Histogram rates, Histogram levelCoverage, Map<String, Histogram> ratesBySubject,
+            Map<String, Histogram> levelCoverageBySubject) {
+        this.rates = requireNonNull(rates);
+        this.levelCoverage = requireNonNull(levelCoverage);
+        this.ratesBySubject = Collections.unmodifiableMap(new LinkedHashMap<>(ratesBySubject));
+        this.levelCoverageBySubject = Collections.unmodifiableMap(new LinkedHashMap<>(levelCoverageBySubject));
+    }
+
+    /**
+     * Returns an empty histogram over every possible hourly rate.
+     */
+    public static Histogram emptyRates() {
+        return Histogram.empty(1, Price.MAX_PRICE);
+    }
+
+    /**
+     * Returns an empty histogram over every level.
+     */
+    public static Histogram emptyLevels() {
+        return Histogram.empty(Level.MIN_LEVEL, Level.MAX_LEVEL);
+    }
+
+    public Histogram getRates() {
+        return rates;
+    }
+
+    /**
+     * Returns the rates of the persons with {@code subject}.
+     */
+    public Histogram getRates(String subject) {
+        return ratesBySubject.getOrDefault(subject, emptyRates());
+    }
+
+    public Histogram getLevelCoverage() {
+        return levelCoverage;
+    }
+
+    /**
+     * Returns the number of persons with {@code subject} covering each level.
+     */
+    public Histogram getLevelCoverage(String subject) {
+        return levelCoverageBySubject.getOrDefault(subject, emptyLevels());
+    }
+
+    /**
+     * Returns the subjects of the persons, in the order they were first counted.
+     */
+    public Set<String> getSubjects() {
+        return ratesBySubject.keySet();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RoleDistributions)) {
+            return false;
+        }
+
+        RoleDistributions otherDistributions = (RoleDistributions) other;
+        return rates.equals(otherDistributions.rates)
+                && levelCoverage.equals(otherDistributions.levelCoverage)
+                && ratesBySubject.equals(otherDistributions.ratesBySubject)
+                && levelCoverageBySubject.equals(otherDistributions.levelCoverageBySubject);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rates, levelCoverage, ratesBySubject, levelCoverageBySubject);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Rates (p50 / p90 / p99): %s\n", formatPercentiles(rates)));
+        for (String subject : getSubjects()) {
+            sb.append(String.format("  %s: %s\n", subject, formatPercentiles(getRates(subject))));
+        }
+        sb.append(String.format("Level Coverage: %s", levelCoverage));
+        for (String subject : getSubjects()) {
+            sb.append(String.format("\n  %s: %s", subject, getLevelCoverage(subject)));
+        }
+        return sb.toString();
+    }
+
+    private static String formatPercentiles(Histogram histogram) {
+        if (histogram.getTotal() == 0) {
+            return "N/A";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int percentile : PERCENTILES) {
+            if (sb.length() > 0) {
+                sb.append(" / ");
+            }
+            sb.append('$').append(histogram.getPercentile(percentile));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Price;
+
+/**
+ * Running totals over the tutors and students in a list of persons, kept up to date as persons are added and
+ * removed, so that their statistics take time in the number of subjects rather than the number of persons.
+ * Besides the totals behind {@link Statistics}, each role keeps the number of persons with each hourly rate and
+ * covering each level, overall and for each subject, from which {@link RoleDistributions} are read.
+ * A person must be removed with the same role, subject, price and match status it was added with.
+ */
+public class RunningStatistics {
+
+    private final RoleTotals tutorTotals = new RoleTotals();
+    private final RoleTotals studentTotals = new RoleTotals();
+
+    /**
+     * Counts {@code person} in the totals of its role.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        RoleTotals totals = totalsFor(person);
+        if (totals != null) {
+            totals.update(person, 1);
+        }
+    }
+
+    /**
+     * Stops counting {@code person}, which must have been added before.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        RoleTotals totals = totalsFor(person);
+        if (totals != null) {
+            totals.update(person, -1);
+        }
+    }
+
+    /**
+     * Removes every person from the totals.
+     */
+    public void clear() {
+        tutorTotals.clear();
+        studentTotals.clear();
+    }
+
+    /**
+     * Returns the statistics of the tutors counted.
+     */
+    public TutorStatistics getTutorStatistics() {
+        return new TutorStatistics(tutorTotals.all.count, tutorTotals.getAveragePrice(),
+                tutorTotals.getMostCommonSubject(), tutorTotals.getAllSubjects(), tutorTotals.matched,
+                tutorTotals.getDistributions());
+    }
+
+    /**
+     * Returns the statistics of the students counted.
+     */
+    public StudentStatistics getStudentStatistics() {
+        return new StudentStatistics(studentTotals.all.count, studentTotals.getAveragePrice(),
+                studentTotals.getMostCommonSubject(), studentTotals.getAllSubjects(), studentTotals.matched,
+                studentTotals.getDistributions());
+    }
+
+    private RoleTotals totalsFor(Person person) {
+        if (person.isTutor()) {
+            return tutorTotals;
+        }
+        return person.isStudent() ? studentTotals : null;
+    }
+
+    /**
+     * Totals over the persons of one role.
+     */
+    private static class RoleTotals {
+        private final Counts all = new Counts();
+        /**
+         * Counts of the persons with each subject, in the order the subjects were first counted. A subject whose
+         * count drops to 0 keeps its entry, and so its position, since editing the only person with a subject
+         * removes and then adds them again; such entries are skipped when the statistics are read.
+         */
+        private final Map<String, Counts> bySubject = new LinkedHashMap<>();
+        private long averagePriceSum;
+        private int matched;
+
+        void update(Person person, int change) {
+            int rate = (person.getPrice().getMin() + person.getPrice().getMax()) / 2;
+            int levelStart = person.getLevel().getStart();
+            int levelEnd = person.getLevel().getEnd();
+            averagePriceSum += change * rate;
+            if (person.isMatched()) {
+                matched += change;
+            }
+            all.update(rate, levelStart, levelEnd, change);
+
+            String subject = person.getSubject().toString();
+            Counts subjectCounts = bySubject.computeIfAbsent(subject, unused -> new Counts());
+            subjectCounts.update(rate, levelStart, levelEnd, change);
+        }
+
+        void clear() {
+            all.clear();
+            bySubject.clear();
+            averagePriceSum = 0;
+            matched = 0;
+        }
+
+        int getAveragePrice() {
+            return all.count == 0 ? 0 : (int) (averagePriceSum / all.count);
+        }
+
+        String getMostCommonSubject() {
+            String mostCommon = "N/A";
+            int mostCommonCount = 0;
+            // ties go to the subject counted most recently, as the user guide describes
+            for (Map.Entry<String, Counts> entry : bySubject.entrySet()) {
+                if (entry.getValue().count > 0 && entry.getValue().count >= mostCommonCount) {
+                    mostCommon = entry.getKey();
+                    mostCommonCount = entry.getValue().count;
+                }
+            }
+            return mostCommon;
+        }
+
+        String getAllSubjects() {
+            StringBuilder sb = new StringBuilder();
+            for (Map.Entry<String, Counts> entry : bySubject.entrySet()) {
+                if (entry.getValue().count == 0) {
+                    continue;
+                }
+                if (sb.length() > 0) {
+                    sb.append(", ");
+                }
+                sb.append(String.format("%s (%d)", entry.getKey(), entry.getValue().count));
+            }
+            return sb.length() == 0 ? "N/A" : sb.toString();
+        }
+
+        RoleDistributions getDistributions() {
+            Map<String, Histogram> ratesBySubject = new LinkedHashMap<>();
+            Map<String, Histogram> levelCoverageBySubject = new LinkedHashMap<>();
+            for (Map.Entry<String, Counts> entry : bySubject.entrySet()) {
+                if (entry.getValue().count == 0) {
+                    continue;
+                }
+                ratesBySubject.put(entry.getKey(), entry.getValue().getRates());
+                levelCoverageBySubject.put(entry.getKey(), entry.getValue().getLevelCoverage());
+            }
+            return new RoleDistributions(all.getRates(), all.getLevelCoverage(), ratesBySubject,
+                    levelCoverageBySubject);
+        }
+    }
+
+    /**
+     * The number of persons in a group, with how many have each hourly rate and how many cover each level.
+     * Rates and levels are small fixed domains, so they are counted in arrays indexed by value.
+     */
+    private static class Counts {
+        private final int[] rateCounts = new int[Price.MAX_PRICE + 1];
+        private final int[] levelCounts = new int[Level.MAX_LEVEL + 1];
+        private int count;
+
+        void update(int rate, int levelStart, int levelEnd, int change) {
+            count += change;
+            rateCounts[rate] += change;
+            for (int level = levelStart; level <= levelEnd; level++) {
+                levelCounts[level] += change;
+            }
+        }
+
+        void clear() {
+            Arrays.fill(rateCounts, 0);
+            Arrays.fill(levelCounts, 0);
+            count = 0;
+        }
+
+        Histogram getRates() {
+            return new Histogram(1, Arrays.copyOfRange(rateCounts, 1, rateCounts.length));
+        }
+
+        Histogram getLevelCoverage() {
+            return new Histogram(Level.MIN_LEVEL, Arrays.copyOfRange(levelCounts, Level.MIN_LEVEL,
+                    levelCounts.length));
+        }
+    }
+}
@@ -14,4 +14,6 @@ public abstract class Statistics {
     public abstract String getAllSubjects();
 
     public abstract int getMatchedPerson();
+
+    public abstract RoleDistributions getDistributions();
 }
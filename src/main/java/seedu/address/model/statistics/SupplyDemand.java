@@ -0,0 +1,84 @@
+package seedu.address.model.statistics;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import seedu.address.model.person.Level;
+
+/**
+ * The number of tutors covering each subject and level against the number of students needing it.
+ */
+public class SupplyDemand {
+
+    private final RoleDistributions tutors;
+    private final RoleDistributions students;
+
+    /**
+     * Creates the supply and demand of the tutors and students with the given distributions.
+     */
+    public SupplyDemand(RoleDistributions tutors, RoleDistributions students) {
+        requireAllNonNull(tutors, students);
+        this.tutors = tutors;
+        this.students = students;
+    }
+
+    /**
+     * Returns the number of tutors of {@code subject} whose level range covers {@code level}.
+     */
+    public int getSupply(String subject, int level) {
+        return tutors.getLevelCoverage(subject).getCount(level);
+    }
+
+    /**
+     * Returns the number of students of {@code subject} at {@code level}.
+     */
+    public int getDemand(String subject, int level) {
+        return students.getLevelCoverage(subject).getCount(level);
+    }
+
+    /**
+     * Returns the number of tutors per student of {@code subject} at {@code level}, which is infinite if there are
+     * tutors but no students, and not a number if there are neither.
+     */
+    public double getRatio(String subject, int level) {
+        int demand = getDemand(subject, level);
+        int supply = getSupply(subject, level);
+        if (demand == 0) {
+            return supply == 0 ? Double.NaN : Double.POSITIVE_INFINITY;
+        }
+        return (double) supply / demand;
+    }
+
+    /**
+     * Returns the subjects of the tutors, followed by any other subjects of the students.
+     */
+    public Set<String> getSubjects() {
+        Set<String> subjects = new LinkedHashSet<>(tutors.getSubjects());
+        subjects.addAll(students.getSubjects());
+        return subjects;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Tutors per Student (tutors / students):");
+        Set<String> subjects = getSubjects();
+        if (subjects.isEmpty()) {
+            return sb.append(" N/A").toString();
+        }
+        for (String subject : subjects) {
+            sb.append(String.format("\n  %s:", subject));
+            for (int level = Level.MIN_LEVEL; level <= Level.MAX_LEVEL; level++) {
+                int demand = getDemand(subject, level);
+                int supply = getSupply(subject, level);
+                if (demand == 0 && supply == 0) {
+                    continue;
+                }
+                String ratio = demand == 0 ? "-" : String.format("%.2f", getRatio(subject, level));
+                sb.append(String.format(" L%d %s (%d / %d)", level, ratio, supply, demand));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.model.statistics;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * Represents statistics about tutors in the address book.
  */
@@ -9,6 +11,7 @@ public class TutorStatistics extends Statistics {
     private final String mostCommonSubject;
     private final String allSubjects;
     private final int matchedPerson;
+    private final RoleDistributions distributions;
 
     /**
      * Constructs a TutorStatistics object with the given statistics.
@@ -20,11 +23,20 @@ public class TutorStatistics extends Statistics {
      */
     public TutorStatistics(int totalTutors, int averagePrice, String mostCommonSubject,
                            String allSubjects, int matchedPerson) {
+        this(totalTutors, averagePrice, mostCommonSubject, allSubjects, matchedPerson, RoleDistributions.EMPTY);
+    }
+
+    /**
+     * Constructs a TutorStatistics object with the given statistics and distributions of rates and levels.
+     */
+    public TutorStatistics(int totalTutors, int averagePrice, String mostCommonSubject, String allSubjects,
+            int matchedPerson, RoleDistributions distributions) {
         this.totalTutors = totalTutors;
         this.averagePrice = averagePrice;
         this.mostCommonSubject = mostCommonSubject;
         this.allSubjects = allSubjects;
         this.matchedPerson = matchedPerson;
+        this.distributions = requireNonNull(distributions);
     }
 
     @Override
@@ -52,6 +64,11 @@ public class TutorStatistics extends Statistics {
         return matchedPerson;
     }
 
+    @Override
+    public RoleDistributions getDistributions() {
+        return distributions;
+    }
+
     @Override
     public String toString() {
         String avgPriceStr = averagePrice == 0 ? "N/A" : String.format("$%d", averagePrice);
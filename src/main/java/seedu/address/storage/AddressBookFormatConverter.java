@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data files between the formats in {@link DataFileFormat}.
+ * Both formats store every detail of every person, so converting a file to the other format and back gives
+ * an address book equal to the original.
+ *
+ * Usage: {@code java -cp ConnectEd.jar seedu.address.storage.AddressBookFormatConverter
+ * (to-binary|to-json) SOURCE_FILE TARGET_FILE}
+ */
+public class AddressBookFormatConverter {
+
+    public static final String MESSAGE_USAGE =
+            "Usage: AddressBookFormatConverter (to-binary|to-json) SOURCE_FILE TARGET_FILE";
+    public static final String MESSAGE_MISSING_SOURCE = "Source file %1$s does not exist.";
+
+    private AddressBookFormatConverter() {}
+
+    /**
+     * Returns a storage that reads and writes data files at {@code filePath} in {@code format}.
+     */
+    public static AddressBookStorage createStorage(DataFileFormat format, Path filePath) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case MAPPED:
+            return new MappedAddressBookStorage(filePath);
+        case JSON:
+            return new JsonAddressBookStorage(filePath);
+        default:
+            throw new AssertionError("Unknown data file format " + format);
+        }
+    }
+
+    /**
+     * Reads the address book at {@code sourcePath} in {@code sourceFormat} and writes it to {@code targetPath}
+     * in {@code targetFormat}, replacing any file there. Returns the number of persons converted.
+     *
+     * @throws DataLoadingException if the source file is missing or could not be read.
+     * @throws IOException if the target file could not be written.
+     */
+    public static int convert(DataFileFormat sourceFormat, Path sourcePath, DataFileFormat targetFormat,
+                              Path targetPath) throws DataLoadingException, IOException {
+        ReadOnlyAddressBook addressBook = createStorage(sourceFormat, sourcePath).readAddressBook()
+                .orElseThrow(() -> new DataLoadingException(
+                        new IOException(String.format(MESSAGE_MISSING_SOURCE, sourcePath))));
+        createStorage(targetFormat, targetPath).saveAddressBook(addressBook);
+        return addressBook.getPersonList().size();
+    }
+
+    /**
+     * Converts the file named by the command line arguments, as described in {@link #MESSAGE_USAGE}.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 3 || !(args[0].equals("to-binary") || args[0].equals("to-json"))) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        boolean isToBinary = args[0].equals("to-binary");
+        int converted = convert(isToBinary ? DataFileFormat.JSON : DataFileFormat.BINARY, Paths.get(args[1]),
+                isToBinary ? DataFileFormat.BINARY : DataFileFormat.JSON, Paths.get(args[2]));
+        System.out.println("Converted " + converted + " person(s) to " + args[2]);
+    }
+}
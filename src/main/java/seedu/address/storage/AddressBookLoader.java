@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Builds an {@code AddressBook} from stored persons added one at a time, in the order they are stored.
+ * Shared by the storage formats, so they assign ids, reject duplicates and restore matches alike.
+ */
+class AddressBookLoader {
+
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON_ID = "Persons list contains duplicate person ID(s).";
+
+    private final AddressBook addressBook = new AddressBook();
+    /** Ids of the persons added, so that a repeated id is rejected instead of shadowing a person in the index. */
+    private final Set<Integer> personIds = new HashSet<>();
+    /**
+     * Persons from old JSON without ids. They are added in file order like the others, and given ids once the
+     * highest id in the file is known.
+     */
+    private final List<Person> personsWithoutId = new ArrayList<>();
+    /** Matched persons in file order, each followed in {@code mateIds} by the id of the person it matches. */
+    private final List<Person> matchedPersons = new ArrayList<>();
+    private final List<Integer> mateIds = new ArrayList<>();
+    private int maxId = 0;
+
+    /**
+     * Adds {@code person}, who was stored as matched with the person with the id {@code matchedPersonId},
+     * or with nobody if it is null.
+     *
+     * @throws IllegalValueException if {@code person} duplicates a person added before, or has the same id.
+     */
+    void add(Person person, Integer matchedPersonId) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        int personId = person.getPersonId();
+        if (personId == 0) {
+            personsWithoutId.add(person);
+        } else if (!personIds.add(personId)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON_ID);
+        }
+        if (matchedPersonId != null) {
+            matchedPersons.add(person);
+            mateIds.add(matchedPersonId);
+        }
+        maxId = Math.max(maxId, personId);
+        addressBook.addPerson(person);
+    }
+
+    /**
+     * Returns the address book of all persons added, with their matches restored.
+     */
+    AddressBook finish() {
+        // Ensure all persons have IDs (assign if coming from old JSON) before matches are resolved by ID
+        int nextId = Math.max(1, maxId + 1);
+        for (Person person : personsWithoutId) {
+            addressBook.assignPersonId(person, nextId++);
+        }
+
+        // Continue static index from highest ID
+        Person.setIndex(Math.max(maxId, nextId - 1) + 1);
+
+        // Resolve matches (second pass) through the address book's ID index
+        for (int i = 0; i < matchedPersons.size(); i++) {
+            Person me = matchedPersons.get(i);
+            Person mate = addressBook.getPersonById(mateIds.get(i)).orElse(null);
+            if (mate != null && me.getMatchedPerson() == null) {
+                addressBook.restoreMatch(me, mate);
+                if (mate.getMatchedPerson() == null) {
+                    addressBook.restoreMatch(mate, me);
+                }
+            }
+        }
+        return addressBook;
+    }
+}
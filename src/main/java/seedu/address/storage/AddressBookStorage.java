@@ -42,4 +42,14 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Repairs the data file after a save that was interrupted, such as by a crash, and returns true if anything
+     * needed repairing. Storages that cannot tell an interrupted save apart from a complete one do nothing.
+     *
+     * @throws IOException if there was any problem repairing the file.
+     */
+    default boolean recoverAddressBook() throws IOException {
+        return false;
+    }
+
 }
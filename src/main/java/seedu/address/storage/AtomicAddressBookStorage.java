@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books through another {@code AddressBookStorage} without ever leaving a partly written data file.
+ * Each save is written to a temporary file next to the data file, forced to the disk, and then renamed over the
+ * data file, so a crash leaves either the old data file or the new one.
+ *
+ * Forcing the file to the disk is slow, so this storage is best used with a {@code WriteBehindSaver}, which
+ * writes the changes of all commands within one save interval together, with a single sync.
+ */
+public class AtomicAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AtomicAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+
+    /**
+     * Creates a storage that reads through {@code storage} and saves through it atomically.
+     */
+    public AtomicAddressBookStorage(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file at {@code filePath} is only replaced once the new one is completely on the disk.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path temporaryPath = getTemporaryPath(filePath);
+        storage.saveAddressBook(addressBook, temporaryPath);
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        replace(temporaryPath, filePath);
+    }
+
+    /**
+     * Finishes or discards a save that was interrupted before its temporary file replaced the data file.
+     * A temporary file that can be read completely was interrupted just before the rename and is newer than the
+     * data file, so it replaces the data file. Any other temporary file is a torn write and is deleted.
+     */
+    @Override
+    public boolean recoverAddressBook() throws IOException {
+        Path filePath = getAddressBookFilePath();
+        Path temporaryPath = getTemporaryPath(filePath);
+        if (!Files.exists(temporaryPath)) {
+            return false;
+        }
+
+        try {
+            storage.readAddressBook(temporaryPath);
+        } catch (DataLoadingException e) {
+            logger.warning("Discarding " + temporaryPath + ", the partly written file of an interrupted save.");
+            Files.delete(temporaryPath);
+            return true;
+        }
+        logger.warning("Completing an interrupted save of " + filePath + " from " + temporaryPath + ".");
+        replace(temporaryPath, filePath);
+        return true;
+    }
+
+    private static Path getTemporaryPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".tmp");
+    }
+
+    /**
+     * Renames {@code source} over {@code target} in one step, then forces the rename itself to the disk.
+     */
+    private static void replace(Path source, Path target) throws IOException {
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Path directory = target.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // some platforms cannot open directories; the rename is still atomic, just not yet durable
+            logger.fine("Could not sync directory " + directory + ": " + e);
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Price;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * Loading it avoids JSON parsing and the parsing of levels and prices from text.
+ *
+ * The format, version {@value #FORMAT_VERSION}, is:
+ * <pre>
+ * int     magic number {@value #MAGIC}
+ * int     format version
+ * table   subjects, then table tags: varint count, then each string
+ * varint  number of persons, then each person:
+ *   byte    flags: {@value #FLAG_TUTOR} tutor, {@value #FLAG_MATCHED} matched, {@value #FLAG_SESSION} has session
+ *   varint  person id
+ *   string  name, phone, email, address
+ *   varint  subject index
+ *   byte    level start (high 4 bits) and end (low 4 bits)
+ *   byte    price min, byte price max
+ *   varint  number of tags, then each tag index
+ *   varint  matched person id, if matched
+ *   session day (byte), start time (long, nanosecond of day), duration (long, minutes),
+ *           subject index (int), price min (byte), price max (byte), if it has a session
+ * int     offset in the file of each person's record, in list order
+ * int     person id, then position in the list, of each person, in increasing order of id
+ * int     offset in the file of the first of these record offsets
+ * int     CRC-32 of all the bytes before it
+ * </pre>
+ * Varints are unsigned LEB128; strings are a varint byte length followed by UTF-8 bytes.
+ * The record offsets and the id table, which version 1 files do not have, let {@link MappedAddressBookStorage}
+ * read any person without reading the ones before it. They are only meaningful in files under 2 GiB.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC = 0x43454442; // "CEDB"
+    public static final int FORMAT_VERSION = 2;
+
+    public static final String MESSAGE_NOT_BINARY = "Not a binary address book file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version %1$d.";
+    public static final String MESSAGE_CORRUPTED = "Binary address book file is corrupted.";
+
+    static final int FLAG_TUTOR = 1;
+    static final int FLAG_MATCHED = 2;
+    static final int FLAG_SESSION = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_STRING_BYTES = 1 << 20;
+    private static final int FIRST_VERSION_WITH_OFFSETS = 2;
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        CRC32 checksum = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE), checksum))) {
+            AddressBook addressBook = readAddressBook(in);
+            int expectedChecksum = (int) checksum.getValue();
+            if (in.readInt() != expectedChecksum || in.read() != -1) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        CRC32 checksum = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE), checksum))) {
+            writeAddressBook(addressBook.getPersonList(), out);
+            out.writeInt((int) checksum.getValue());
+        }
+    }
+
+    private static void writeAddressBook(List<Person> persons, DataOutputStream out) throws IOException {
+        Map<String, Integer> subjects = new LinkedHashMap<>();
+        Map<String, Integer> tags = new LinkedHashMap<>();
+        for (Person person : persons) {
+            indexIn(subjects, person.getSubject().subject);
+            for (Tag tag : person.getTags()) {
+                indexIn(tags, tag.tagName);
+            }
+            if (person.getSession() != null) {
+                indexIn(subjects, person.getSession().getSubject().subject);
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        writeStringTable(subjects, out);
+        writeStringTable(tags, out);
+        writeVarInt(persons.size(), out);
+        int[] recordOffsets = new int[persons.size()];
+        long[] idsAndPositions = new long[persons.size()];
+        int position = 0;
+        for (Person person : persons) {
+            recordOffsets[position] = out.size();
+            idsAndPositions[position] = (long) person.getPersonId() << Integer.SIZE | position;
+            writePerson(person, subjects, tags, out);
+            position++;
+        }
+
+        int offsetTableOffset = out.size();
+        for (int recordOffset : recordOffsets) {
+            out.writeInt(recordOffset);
+        }
+        Arrays.sort(idsAndPositions);
+        for (long idAndPosition : idsAndPositions) {
+            out.writeInt((int) (idAndPosition >>> Integer.SIZE));
+            out.writeInt((int) idAndPosition);
+        }
+        out.writeInt(offsetTableOffset);
+    }
+
+    private static void writePerson(Person person, Map<String, Integer> subjects, Map<String, Integer> tags,
+                                    DataOutputStream out) throws IOException {
+        Session session = person.getSession();
+        int flags = (person.isTutor() ? FLAG_TUTOR : 0)
+                | (person.getMatchedPerson() != null ? FLAG_MATCHED : 0)
+                | (session != null ? FLAG_SESSION : 0);
+        out.writeByte(flags);
+        writeVarInt(person.getPersonId(), out);
+        writeString(person.getName().fullName, out);
+        writeString(person.getPhone().value, out);
+        writeString(person.getEmail().value, out);
+        writeString(person.getAddress().value, out);
+        writeVarInt(subjects.get(person.getSubject().subject), out);
+        out.writeByte(person.getLevel().getStart() << 4 | person.getLevel().getEnd());
+        out.writeByte(person.getPrice().getMin());
+        out.writeByte(person.getPrice().getMax());
+        writeVarInt(person.getTags().size(), out);
+        for (Tag tag : person.getTags()) {
+            writeVarInt(tags.get(tag.tagName), out);
+        }
+        if (person.getMatchedPerson() != null) {
+            writeVarInt(person.getMatchedPerson().getPersonId(), out);
+        }
+        if (session != null) {
+            out.writeByte(session.getDay().getValue());
+            out.writeLong(session.getTime().toNanoOfDay());
+            out.writeLong(session.getDuration().toMinutes());
+            out.writeInt(subjects.get(session.getSubject().subject));
+            out.writeByte(session.getPrice().getMin());
+            out.writeByte(session.getPrice().getMax());
+        }
+    }
+
+    private static AddressBook readAddressBook(DataInputStream in) throws IOException, IllegalValueException {
+        int version = readVersion(in);
+        try {
+            Subject[] subjects = readSubjectTable(in);
+            Tag[] tags = readTagTable(in);
+            AddressBookLoader loader = new AddressBookLoader();
+            int personCount = readVarInt(in);
+            for (int i = 0; i < personCount; i++) {
+                StoredPerson stored = readPerson(in, subjects, tags);
+                loader.add(stored.person, stored.matchedPersonId);
+            }
+            if (version >= FIRST_VERSION_WITH_OFFSETS) {
+                // the offsets only serve random access; the checksum still covers them
+                long offsetInts = 3L * personCount + 1;
+                for (long i = 0; i < offsetInts; i++) {
+                    in.readInt();
+                }
+            }
+            return loader.finish();
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+            // invalid field values, or indexes into the string tables that a valid file cannot contain
+            throw new IllegalValueException(MESSAGE_CORRUPTED + " " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the magic number and format version at the start of a binary file and returns the version.
+     *
+     * @throws IllegalValueException if the file is not a binary address book of a version this class can read.
+     */
+    static int readVersion(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        int version = in.readInt();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        return version;
+    }
+
+    /**
+     * Reads one person record. The person is not matched; its stored match is returned alongside it.
+     */
+    static StoredPerson readPerson(DataInputStream in, Subject[] subjects, Tag[] tags) throws IOException {
+        int flags = in.readUnsignedByte();
+        int personId = readVarInt(in);
+        Name name = new Name(readString(in));
+        Phone phone = new Phone(readString(in));
+        Email email = new Email(readString(in));
+        Address address = new Address(readString(in));
+        Subject subject = subjects[readVarInt(in)];
+        int packedLevel = in.readUnsignedByte();
+        Level level = new Level(packedLevel >>> 4, packedLevel & 0xF);
+        Price price = new Price(in.readUnsignedByte(), in.readUnsignedByte());
+        int tagCount = readVarInt(in);
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            personTags.add(tags[readVarInt(in)]);
+        }
+        Integer matchedPersonId = (flags & FLAG_MATCHED) != 0 ? readVarInt(in) : null;
+
+        Person person = new Person((flags & FLAG_TUTOR) != 0 ? "tutor" : "student", name, phone, email, address,
+                subject, level, price, personTags, personId);
+        if ((flags & FLAG_SESSION) != 0) {
+            DayOfWeek day = DayOfWeek.of(in.readUnsignedByte());
+            LocalTime time = LocalTime.ofNanoOfDay(in.readLong());
+            Duration duration = Duration.ofMinutes(in.readLong());
+            Subject sessionSubject = subjects[in.readInt()];
+            Price sessionPrice = new Price(in.readUnsignedByte(), in.readUnsignedByte());
+            person.setSession(new Session(day, time, duration, sessionSubject, sessionPrice));
+        }
+        return new StoredPerson(person, matchedPersonId);
+    }
+
+    private static void indexIn(Map<String, Integer> table, String value) {
+        table.putIfAbsent(value, table.size());
+    }
+
+    private static void writeStringTable(Map<String, Integer> table, DataOutputStream out) throws IOException {
+        writeVarInt(table.size(), out);
+        for (String value : table.keySet()) {
+            writeString(value, out);
+        }
+    }
+
+    static Subject[] readSubjectTable(DataInputStream in) throws IOException {
+        Subject[] subjects = new Subject[readVarInt(in)];
+        for (int i = 0; i < subjects.length; i++) {
+            subjects[i] = new Subject(readString(in));
+        }
+        return subjects;
+    }
+
+    static Tag[] readTagTable(DataInputStream in) throws IOException {
+        Tag[] tags = new Tag[readVarInt(in)];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = new Tag(readString(in));
+        }
+        return tags;
+    }
+
+    private static void writeString(String value, DataOutputStream out) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length, out);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes {@code value} as an unsigned LEB128 varint: 7 bits per byte, lowest first, with the high bit set on
+     * all bytes but the last. Small non-negative values take a single byte.
+     */
+    static void writeVarInt(int value, DataOutputStream out) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads a varint written by {@link #writeVarInt(int, DataOutputStream)}.
+     */
+    static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_CORRUPTED);
+    }
+
+    /**
+     * A person read from a binary file, with the id of the person it was stored as matched with.
+     */
+    static class StoredPerson {
+        final Person person;
+        /** Null if the person was not matched. */
+        final Integer matchedPersonId;
+
+        StoredPerson(Person person, Integer matchedPersonId) {
+            this.person = person;
+            this.matchedPersonId = matchedPersonId;
+        }
+    }
+}
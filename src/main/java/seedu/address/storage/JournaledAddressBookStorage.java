@@ -0,0 +1,390 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+import java.util.zip.ZipException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.DataFileCompression;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus a journal of later changes.
+ * Saving appends only the persons added, edited or removed since the previous save to the journal, one entry
+ * per line, instead of rewriting the whole snapshot. Reading replays the journal over the snapshot.
+ * Once the journal grows past a threshold, it is folded into a new snapshot on a background thread.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 256 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final long compactionThresholdBytes;
+    private final DataFileCompression compression;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean isCompactionScheduled = new AtomicBoolean();
+
+    /**
+     * The persons in {@code filePath} and its journals, by id in the order they are stored, or null if they are
+     * not known and the next save has to write a full snapshot.
+     */
+    private Map<Integer, Person> savedPersons;
+    /** Changes whenever a snapshot is written, so a compaction can tell that its snapshot has become outdated. */
+    private long snapshotGeneration;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DataFileCompression.NONE);
+    }
+
+    public JournaledAddressBookStorage(Path filePath, DataFileCompression compression) {
+        this(filePath, compression, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath} that compresses the snapshot and journal as chosen by
+     * {@code compression}, and compacts its journal once the journal is larger than
+     * {@code compactionThresholdBytes}.
+     */
+    public JournaledAddressBookStorage(Path filePath, DataFileCompression compression,
+                                       long compactionThresholdBytes) {
+        requireNonNull(filePath);
+        requireNonNull(compression);
+        this.filePath = filePath;
+        this.compression = compression;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        this.snapshotStorage = new JsonAddressBookStorage(null, compression);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the journal of changes made after the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + ".journal");
+    }
+
+    /**
+     * Returns the journal that is being folded into the snapshot at {@code snapshotPath}.
+     */
+    static Path getCompactingJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + ".journal.compacting");
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonSerializableAddressBook> snapshot = JsonUtil.readJsonFile(
+                filePath, JsonSerializableAddressBook.class);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        Map<Integer, JsonAdaptedPerson> persons = new LinkedHashMap<>();
+        for (JsonAdaptedPerson person : snapshot.get().getPersons()) {
+            Integer personId = person.getPersonId();
+            if (personId == null || personId <= 0 || persons.put(personId, person) != null) {
+                // written without ids, so it cannot have a journal; the next save writes a snapshot with ids
+                return Optional.of(toModelType(snapshot.get(), filePath, false));
+            }
+        }
+
+        boolean isCompactingJournalComplete = replayJournal(getCompactingJournalPath(filePath), persons);
+        boolean isJournalComplete = replayJournal(getJournalPath(filePath), persons);
+        // a leftover compacting journal or a torn last entry is cleaned up by writing a full snapshot on next save
+        boolean isConsistent = isCompactingJournalComplete && isJournalComplete
+                && !Files.exists(getCompactingJournalPath(filePath));
+        return Optional.of(toModelType(new JsonSerializableAddressBook(new ArrayList<>(persons.values())),
+                filePath, isConsistent));
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalPath}, if it exists, to {@code persons}.
+     * Returns false if the last entry is incomplete, as it is after a crash while it was being written.
+     */
+    private boolean replayJournal(Path journalPath, Map<Integer, JsonAdaptedPerson> persons)
+            throws DataLoadingException {
+        if (!Files.exists(journalPath)) {
+            return true;
+        }
+        logger.info("Replaying journal " + journalPath);
+
+        List<String> lines = new ArrayList<>();
+        boolean isTruncated = false;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                CompressionUtil.openInputStream(journalPath), StandardCharsets.UTF_8))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line);
+            }
+        } catch (EOFException | ZipException e) {
+            // a compressed journal cut off mid-entry; the lines before the cut are complete
+            isTruncated = true;
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class).applyTo(persons);
+            } catch (IOException | IllegalValueException e) {
+                if (i == lines.size() - 1 && !isTruncated) {
+                    logger.warning("Ignoring incomplete last entry of journal " + journalPath);
+                    return false;
+                }
+                logger.info("Invalid entry at line " + (i + 1) + " of journal " + journalPath);
+                throw new DataLoadingException(e);
+            }
+        }
+        if (isTruncated) {
+            logger.warning("Ignoring incomplete last entry of journal " + journalPath);
+        }
+        return !isTruncated;
+    }
+
+    private ReadOnlyAddressBook toModelType(JsonSerializableAddressBook addressBook, Path filePath,
+                                            boolean isConsistent) throws DataLoadingException {
+        ReadOnlyAddressBook modelAddressBook;
+        try {
+            modelAddressBook = addressBook.toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        if (filePath.equals(this.filePath)) {
+            savedPersons = isConsistent ? indexById(modelAddressBook.getPersonList()) : null;
+        }
+        return modelAddressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to the snapshot at {@link #getAddressBookFilePath()} are journaled; saves to any other location
+     * write a full snapshot there.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = savedPersons == null
+                ? null
+                : diff(savedPersons, addressBook.getPersonList());
+        Path journalPath = getJournalPath(filePath);
+        if (entries == null || entries.size() > addressBook.getPersonList().size() / 2
+                || !isJournalCompressedAsChosen(journalPath)) {
+            // rewriting the snapshot is cheaper than journaling most of the book, and starts a new journal
+            // when the compression has been changed since the journal was begun
+            writeSnapshot(addressBook, filePath);
+            savedPersons = indexById(addressBook.getPersonList());
+            return;
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        savedPersons = null; // unknown until the append completes
+        // a compressed journal gets one gzip member per save, which decompress as one continuous stream
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(CompressionUtil.compress(
+                Files.newOutputStream(journalPath, StandardOpenOption.CREATE, StandardOpenOption.APPEND),
+                compression), StandardCharsets.UTF_8))) {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                writer.write(JsonUtil.toJsonLine(entry));
+                writer.newLine();
+            }
+        }
+        savedPersons = indexById(addressBook.getPersonList());
+
+        if (Files.size(journalPath) > compactionThresholdBytes && isCompactionScheduled.compareAndSet(false, true)) {
+            compactor.execute(this::compactInBackground);
+        }
+    }
+
+    /**
+     * Returns true if the journal at {@code journalPath} does not exist yet or is compressed as chosen, so that
+     * entries can be appended to it.
+     */
+    private boolean isJournalCompressedAsChosen(Path journalPath) throws IOException {
+        return !Files.exists(journalPath)
+                || CompressionUtil.isCompressed(journalPath) == (compression != DataFileCompression.NONE);
+    }
+
+    /**
+     * Returns the journal entries that turn {@code saved} into {@code persons}, or null if that is not possible
+     * because the order of the persons has changed or two persons share an id.
+     */
+    private static List<JsonAdaptedJournalEntry> diff(Map<Integer, Person> saved, List<Person> persons) {
+        Map<Integer, Person> current = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (current.put(person.getPersonId(), person) != null) {
+                return null;
+            }
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        // replaying keeps the saved persons that remain in their order and adds new persons at the end,
+        // so the persons must appear in exactly that order
+        int position = 0;
+        for (Map.Entry<Integer, Person> entry : saved.entrySet()) {
+            int personId = entry.getKey();
+            Person person = current.get(personId);
+            if (person == null) {
+                entries.add(JsonAdaptedJournalEntry.remove(personId));
+                continue;
+            }
+            if (persons.get(position++).getPersonId() != personId) {
+                return null;
+            }
+            // commands replace a person they change with an edited copy and never modify one in place (see
+            // LogicManager#snapshotOf), so a person that is still the same object is unchanged
+            if (person != entry.getValue()) {
+                entries.add(JsonAdaptedJournalEntry.put(person));
+            }
+        }
+        for (; position < persons.size(); position++) {
+            Person person = persons.get(position);
+            if (saved.containsKey(person.getPersonId())) {
+                return null;
+            }
+            entries.add(JsonAdaptedJournalEntry.put(person));
+        }
+        return entries;
+    }
+
+    /**
+     * Writes {@code addressBook} as the snapshot at {@code filePath}, replacing the snapshot and its journals.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(getJournalPath(filePath));
+        Files.deleteIfExists(getCompactingJournalPath(filePath));
+        snapshotGeneration++;
+    }
+
+    /**
+     * Folds the journal into a new snapshot. Saves may continue while the snapshot is written, as they go to a
+     * fresh journal; the folded journal is kept until the new snapshot has replaced the old one.
+     */
+    void compact() throws IOException {
+        ObservableList<Person> persons;
+        long generation;
+        Path journalPath = getJournalPath(filePath);
+        Path compactingJournalPath = getCompactingJournalPath(filePath);
+        synchronized (this) {
+            if (savedPersons == null || !Files.exists(journalPath) || Files.exists(compactingJournalPath)) {
+                return;
+            }
+            Files.move(journalPath, compactingJournalPath, StandardCopyOption.ATOMIC_MOVE);
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(savedPersons.values()));
+            generation = snapshotGeneration;
+        }
+
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        snapshotStorage.saveAddressBook(() -> persons, temporaryPath);
+
+        synchronized (this) {
+            if (generation != snapshotGeneration) {
+                // a full snapshot was written meanwhile and already contains everything in this one
+                Files.deleteIfExists(temporaryPath);
+                return;
+            }
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.delete(compactingJournalPath);
+            snapshotGeneration++;
+        }
+        logger.fine("Compacted journal of " + filePath);
+    }
+
+    private void compactInBackground() {
+        isCompactionScheduled.set(false);
+        try {
+            compact();
+        } catch (IOException e) {
+            // the journals are still intact, so the data is safe; the next save writes a full snapshot
+            logger.warning("Failed to compact journal of " + filePath + ": " + StringUtil.getDetails(e));
+            synchronized (this) {
+                savedPersons = null;
+            }
+        }
+    }
+
+    /**
+     * Returns {@code persons} by id in their order, or null if two of them share an id.
+     */
+    private static Map<Integer, Person> indexById(List<Person> persons) {
+        Map<Integer, Person> index = new LinkedHashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (index.put(person.getPersonId(), person) != null) {
+                return null;
+            }
+        }
+        return index;
+    }
+}
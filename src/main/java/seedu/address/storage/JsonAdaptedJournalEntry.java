@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change to the persons of an address book, as recorded in a journal.
+ * A "put" entry stores a person, replacing the person with the same id in place or adding it at the end;
+ * a "remove" entry removes the person with the given id.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String OPERATION_PUT = "put";
+    public static final String OPERATION_REMOVE = "remove";
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is not a valid put or remove entry.";
+
+    private final String op;
+    private final Integer personId;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op, @JsonProperty("personId") Integer personId,
+                                   @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.personId = personId;
+        this.person = person;
+    }
+
+    /**
+     * Returns an entry that stores {@code person}.
+     */
+    public static JsonAdaptedJournalEntry put(Person person) {
+        return new JsonAdaptedJournalEntry(OPERATION_PUT, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns an entry that removes the person with the id {@code personId}.
+     */
+    public static JsonAdaptedJournalEntry remove(int personId) {
+        return new JsonAdaptedJournalEntry(OPERATION_REMOVE, personId, null);
+    }
+
+    /**
+     * Applies this entry to {@code persons}, which maps person ids to persons in the order they are stored.
+     *
+     * @throws IllegalValueException if this entry is malformed.
+     */
+    public void applyTo(Map<Integer, JsonAdaptedPerson> persons) throws IllegalValueException {
+        if (OPERATION_PUT.equals(op) && person != null && person.getPersonId() != null) {
+            persons.put(person.getPersonId(), person);
+        } else if (OPERATION_REMOVE.equals(op) && personId != null) {
+            persons.remove(personId);
+        } else {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+    }
+}
@@ -3,10 +3,15 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.DataFileCompression;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -22,9 +27,20 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final DataFileCompression compression;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, DataFileCompression.NONE);
+    }
+
+    /**
+     * Creates a storage for the json file at {@code filePath} that compresses the files it saves as chosen by
+     * {@code compression}. Files are read whether or not they are compressed.
+     */
+    public JsonAddressBookStorage(Path filePath, DataFileCompression compression) {
+        requireNonNull(compression);
         this.filePath = filePath;
+        this.compression = compression;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +61,18 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
-
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        logger.info("JSON file " + filePath + " found.");
+
+        // streamed in batches of up to 4096 adapted persons, which are converted in parallel and then dropped, so
+        // at most one batch is held in any form other than the model's, whatever the size of the file
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.readModelType(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -74,7 +94,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath, compression)) {
+            JsonSerializableAddressBook.writeModelType(addressBook, generator);
+        }
     }
 
 }
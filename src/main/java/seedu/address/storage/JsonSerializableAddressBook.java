@@ -1,14 +1,21 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -20,7 +27,14 @@ import seedu.address.model.person.Person;
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
-    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON = AddressBookLoader.MESSAGE_DUPLICATE_PERSON;
+    public static final String MESSAGE_DUPLICATE_PERSON_ID = AddressBookLoader.MESSAGE_DUPLICATE_PERSON_ID;
+
+    private static final String MESSAGE_STAGE_TIMES =
+            "Loaded %1$d persons: %2$sconverting %3$d ms, checking duplicates and linking matches %4$d ms";
+    /** Number of persons read from a file before they are converted together. */
+    private static final int CONVERSION_BATCH_SIZE = 4096;
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableAddressBook.class);
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -41,58 +55,143 @@ class JsonSerializableAddressBook {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
     }
 
+    List<JsonAdaptedPerson> getPersons() {
+        return persons;
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        List<Person> built = new ArrayList<>();
-
-        // 1) Build all persons & add to model
-        for (JsonAdaptedPerson jap : persons) {
-            Person p = jap.toModelType();
-            if (addressBook.hasPerson(p)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        ParallelConverter converter = new ParallelConverter();
+        converter.add(persons);
+        AddressBook addressBook = converter.finish();
+        logger.info(String.format(MESSAGE_STAGE_TIMES, persons.size(), "", converter.getConvertingMillis(),
+                converter.getLinkingMillis()));
+        return addressBook;
+    }
+
+    /**
+     * Reads an address book in the format written by this class from {@code parser} and converts it into the
+     * model's {@code AddressBook} object. Persons are converted in batches as they are read, so the file is
+     * never held in memory as a whole, neither as text nor as a list of adapted persons.
+     *
+     * @throws IOException if the content is not valid JSON or could not be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        ParallelConverter converter = new ParallelConverter();
+        List<JsonAdaptedPerson> batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+        int personCount = 0;
+        long parsingNanos = 0;
+        long parsingStart = System.nanoTime();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!"persons".equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of persons");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                if (batch.size() == CONVERSION_BATCH_SIZE) {
+                    parsingNanos += System.nanoTime() - parsingStart;
+                    converter.add(batch);
+                    personCount += batch.size();
+                    batch.clear();
+                    parsingStart = System.nanoTime();
+                }
             }
-            addressBook.addPerson(p);
-            built.add(p);
         }
+        parsingNanos += System.nanoTime() - parsingStart;
+        converter.add(batch);
+        personCount += batch.size();
+        AddressBook addressBook = converter.finish();
+        logger.info(String.format(MESSAGE_STAGE_TIMES, personCount, "parsing " + parsingNanos / 1_000_000 + " ms, ",
+                converter.getConvertingMillis(), converter.getLinkingMillis()));
+        return addressBook;
+    }
 
-        // 2) Ensure all persons have IDs (assign if coming from old JSON)
-        int maxId = built.stream().mapToInt(Person::getPersonId).max().orElse(0);
-        int nextId = Math.max(1, maxId + 1);
-        for (Person p : built) {
-            if (p.getPersonId() == 0) { // or < 1 if you prefer
-                p.setPersonId(nextId++);
-            }
+    /**
+     * Writes {@code source} to {@code generator} in the format read by {@link #readModelType(JsonParser)}.
+     * Persons are adapted and written one at a time, so neither a list of adapted persons nor the text of the
+     * whole address book is ever built.
+     *
+     * @throws IOException if the content could not be written.
+     */
+    public static void writeModelType(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
         }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
 
-        // 3) Continue static index from highest ID
-        Person.setIndex(built.stream().mapToInt(Person::getPersonId).max().orElse(0) + 1);
+    /**
+     * Converts adapted persons into model persons in parallel, then adds them to an {@code AddressBookLoader}
+     * one at a time in their original order. Adding in order reports the same invalid or duplicate person as
+     * converting and adding each person in turn would.
+     */
+    private static class ParallelConverter {
 
-        // 4) Lookup by ID
-        Map<Integer, Person> byId = built.stream()
-                .collect(Collectors.toMap(Person::getPersonId, x -> x));
+        private final AddressBookLoader loader = new AddressBookLoader();
+        private long convertingNanos = 0;
+        private long linkingNanos = 0;
 
-        // 5) Resolve matches (second pass)
-        for (int i = 0; i < persons.size(); i++) {
-            JsonAdaptedPerson jap = persons.get(i);
-            Integer mateId = jap.getMatchedPersonId();
-            if (mateId == null) {
-                continue;
-            }
-            Person me = built.get(i);
-            Person mate = byId.get(mateId);
-            if (mate != null && me.getMatchedPerson() == null) {
-                me.setMatchedPerson(mate);
-                if (mate.getMatchedPerson() == null) {
-                    mate.setMatchedPerson(me);
+        /**
+         * Converts {@code adaptedPersons} and adds them to the address book.
+         *
+         * @throws IllegalValueException if a person is invalid or duplicates a person added before.
+         */
+        void add(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+            long start = System.nanoTime();
+            Person[] converted = new Person[adaptedPersons.size()];
+            IllegalValueException[] errors = new IllegalValueException[adaptedPersons.size()];
+            IntStream.range(0, converted.length).parallel().forEach(i -> {
+                try {
+                    converted[i] = adaptedPersons.get(i).toModelType();
+                } catch (IllegalValueException ive) {
+                    errors[i] = ive;
                 }
+            });
+            long convertedAt = System.nanoTime();
+            convertingNanos += convertedAt - start;
+
+            for (int i = 0; i < converted.length; i++) {
+                if (errors[i] != null) {
+                    throw errors[i];
+                }
+                loader.add(converted[i], adaptedPersons.get(i).getMatchedPersonId());
             }
+            linkingNanos += System.nanoTime() - convertedAt;
         }
 
-        return addressBook;
+        /**
+         * Returns the address book of all persons added, with their matches restored.
+         */
+        AddressBook finish() {
+            long start = System.nanoTime();
+            AddressBook addressBook = loader.finish();
+            linkingNanos += System.nanoTime() - start;
+            return addressBook;
+        }
+
+        long getConvertingMillis() {
+            return convertingNanos / 1_000_000;
+        }
+
+        long getLinkingMillis() {
+            return linkingNanos / 1_000_000;
+        }
     }
 }
@@ -0,0 +1,46 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a sharded address book.
+ * It lists the shard files that make up the address book and the ids of all its persons in order, as the order
+ * of the persons cannot be told from the shards, each of which only holds some of them.
+ */
+class JsonShardManifest {
+
+    private final List<String> shards;
+    private final List<Integer> order = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given shard file names and person ids.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("shards") List<String> shards,
+                             @JsonProperty("order") List<Integer> order) {
+        this.shards = shards;
+        if (order != null) {
+            this.order.addAll(order);
+        }
+    }
+
+    /**
+     * Returns false if this was read from a file that is not a manifest, such as an address book saved before it
+     * was sharded.
+     */
+    public boolean isManifest() {
+        return shards != null;
+    }
+
+    public List<String> getShards() {
+        return shards;
+    }
+
+    public List<Integer> getOrder() {
+        return order;
+    }
+}
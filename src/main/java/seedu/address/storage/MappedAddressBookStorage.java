@@ -0,0 +1,283 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.BinaryAddressBookStorage.StoredPerson;
+
+/**
+ * A class to access AddressBook data stored in the format of {@link BinaryAddressBookStorage} by mapping the file
+ * into memory rather than reading it.
+ * Opening a file only reads its string tables and locates its record offsets, so it is about as quick for a book
+ * of millions of persons as for an empty one. Each person is decoded the first time it is read from
+ * {@link ReadOnlyAddressBook#getPersonList()}, along with the person it is matched with.
+ *
+ * This suits large archived books, and is used for data files in {@link DataFileFormat#MAPPED}. Copying the book
+ * into a model still decodes every person, but as the persons are copied rather than all before the first.
+ * Reading does not verify the checksum or look for duplicate persons, as both need the whole file; a corrupted
+ * record is only found when it is decoded, which throws an {@link IllegalStateException}.
+ */
+public class MappedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_NO_RECORD_OFFSETS =
+            "Binary address book version %1$d has no record offsets; save it again to map it.";
+    public static final String MESSAGE_TOO_LARGE = "Binary address book file is too large to map.";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    private Path filePath;
+
+    public MappedAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if the file is not a binary address book with record offsets.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Mapping binary file " + filePath + ".");
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalValueException(MESSAGE_TOO_LARGE);
+            }
+            // the mapping stays valid after the channel is closed
+            return Optional.of(new MappedAddressBook(channel.map(FileChannel.MapMode.READ_ONLY, 0, size)));
+        } catch (IOException e) {
+            logger.warning("Error mapping binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The new file replaces the old one rather than overwriting it, as books mapped from the old file keep
+     * reading from it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        new BinaryAddressBookStorage(temporaryPath).saveAddressBook(addressBook);
+        Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * An address book whose persons are decoded from a mapped binary file as they are read.
+     */
+    private static class MappedAddressBook implements ReadOnlyAddressBook {
+
+        private final ObservableList<Person> persons;
+
+        MappedAddressBook(ByteBuffer file) throws IOException, IllegalValueException {
+            DataInputStream header = new DataInputStream(new ByteBufferInputStream(file.duplicate()));
+            int version = BinaryAddressBookStorage.readVersion(header);
+            if (version < BinaryAddressBookStorage.FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_NO_RECORD_OFFSETS, version));
+            }
+
+            try {
+                Subject[] subjects = BinaryAddressBookStorage.readSubjectTable(header);
+                Tag[] tags = BinaryAddressBookStorage.readTagTable(header);
+                int personCount = BinaryAddressBookStorage.readVarInt(header);
+                int offsetTableOffset = file.getInt(file.capacity() - 2 * Integer.BYTES);
+                if (personCount < 0 || offsetTableOffset < 0 || (long) offsetTableOffset
+                        + (3L * personCount + 2) * Integer.BYTES != file.capacity()) {
+                    throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED);
+                }
+
+                IntBuffer recordOffsets = file.duplicate().position(offsetTableOffset).slice().asIntBuffer();
+                IntBuffer idsAndPositions = file.duplicate()
+                        .position(offsetTableOffset + personCount * Integer.BYTES).slice().asIntBuffer();
+                MappedPersonList personList = new MappedPersonList(file, subjects, tags, recordOffsets,
+                        idsAndPositions, personCount);
+                // Continue static index from highest ID
+                Person.setIndex(personList.getMaxPersonId() + 1);
+                persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(personList));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED + " " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+
+    /**
+     * The persons of a mapped binary file, in the order they are stored, each decoded on first access.
+     */
+    private static class MappedPersonList extends AbstractList<Person> implements RandomAccess {
+
+        private final ByteBuffer file;
+        private final Subject[] subjects;
+        private final Tag[] tags;
+        /** The offset of the record of the person at each position. */
+        private final IntBuffer recordOffsets;
+        /** Pairs of a person id and the position of that person, in increasing order of id. */
+        private final IntBuffer idsAndPositions;
+        /** The persons decoded so far, at their positions. */
+        private final Person[] persons;
+
+        MappedPersonList(ByteBuffer file, Subject[] subjects, Tag[] tags, IntBuffer recordOffsets,
+                         IntBuffer idsAndPositions, int size) {
+            this.file = file;
+            this.subjects = subjects;
+            this.tags = tags;
+            this.recordOffsets = recordOffsets;
+            this.idsAndPositions = idsAndPositions;
+            this.persons = new Person[size];
+        }
+
+        @Override
+        public synchronized Person get(int position) {
+            Objects.checkIndex(position, persons.length);
+            if (persons[position] == null) {
+                decode(position);
+            }
+            return persons[position];
+        }
+
+        @Override
+        public int size() {
+            return persons.length;
+        }
+
+        int getMaxPersonId() {
+            return persons.length == 0 ? 0 : idsAndPositions.get(2 * persons.length - 2);
+        }
+
+        private void decode(int position) {
+            StoredPerson stored;
+            try {
+                ByteBuffer record = file.duplicate().position(recordOffsets.get(position));
+                stored = BinaryAddressBookStorage.readPerson(
+                        new DataInputStream(new ByteBufferInputStream(record)), subjects, tags);
+            } catch (IOException | IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+                throw new IllegalStateException(BinaryAddressBookStorage.MESSAGE_CORRUPTED, e);
+            }
+            Person person = stored.person;
+            persons[position] = person;
+
+            if (stored.matchedPersonId != null) {
+                int matePosition = positionOf(stored.matchedPersonId);
+                if (matePosition >= 0) {
+                    // decoding the mate matches it back to this person, which is already in place
+                    Person mate = get(matePosition);
+                    if (person.getMatchedPerson() == null) {
+                        person.setMatchedPerson(mate);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the position of the person with the id {@code personId}, or -1 if there is none.
+         */
+        private int positionOf(int personId) {
+            int low = 0;
+            int high = persons.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int middleId = idsAndPositions.get(2 * middle);
+                if (middleId < personId) {
+                    low = middle + 1;
+                } else if (middleId > personId) {
+                    high = middle - 1;
+                } else {
+                    return idsAndPositions.get(2 * middle + 1);
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * An input stream over the remaining bytes of a buffer.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.DataFileCompression;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as one json file per shard of persons, plus a manifest.
+ * Persons are sharded by role and subject, so that, say, all mathematics tutors share a shard, and a save only
+ * rewrites the shards whose persons changed. The manifest, at the data file path, lists the shards and the order
+ * of all persons; the shards are in a directory next to it.
+ *
+ * Reading parses and converts the shards in parallel, then checks for duplicates and restores matches across all
+ * of them in the order of the manifest, so the address book read back is the one that was saved.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+    private static final String SHARD_FILE_EXTENSION = ".json";
+
+    private final Path filePath;
+    private final JsonAddressBookStorage shardStorage;
+
+    /**
+     * The persons in each shard at {@code filePath} in order, by shard file name, or null if they are not known and
+     * the next save has to write every shard.
+     */
+    private Map<String, List<Person>> savedShards;
+    /** The ids of the persons at {@code filePath} in order, as listed in its manifest. */
+    private List<Integer> savedOrder;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, DataFileCompression.NONE);
+    }
+
+    /**
+     * Creates a storage for the manifest at {@code filePath} that compresses the shards as chosen by
+     * {@code compression}. The manifest itself is small and always left uncompressed.
+     */
+    public ShardedAddressBookStorage(Path filePath, DataFileCompression compression) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.shardStorage = new JsonAddressBookStorage(null, compression);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory of the shards listed in the manifest at {@code manifestPath}.
+     */
+    public static Path getShardDirectory(Path manifestPath) {
+        return manifestPath.resolveSibling(manifestPath.getFileName() + ".shards");
+    }
+
+    /**
+     * Returns the name of the file of the shard that {@code person} belongs in.
+     */
+    static String getShardFileName(Person person) {
+        String shard = person.getRole() + "-" + person.getSubject().subject.toLowerCase(Locale.ROOT);
+        return shard.replaceAll("[^a-z0-9-]", "_") + SHARD_FILE_EXTENSION;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A plain json address book at {@code filePath}, as saved before sharding, is read as it is.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+        if (!manifest.get().isManifest()) {
+            logger.info(filePath + " is not sharded yet; it will be sharded when next saved.");
+            Optional<ReadOnlyAddressBook> addressBook = shardStorage.readAddressBook(filePath);
+            if (filePath.equals(this.filePath)) {
+                savedShards = null;
+            }
+            return addressBook;
+        }
+
+        List<Shard> shards = readShards(getShardDirectory(filePath), manifest.get().getShards());
+        AddressBookLoader loader = new AddressBookLoader();
+        boolean isConsistent;
+        ReadOnlyAddressBook addressBook;
+        try {
+            isConsistent = addInOrder(shards, manifest.get().getOrder(), loader);
+            addressBook = loader.finish();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            // a crash between writing the shards and the manifest leaves them disagreeing until the next save
+            savedShards = isConsistent ? groupByShard(addressBook.getPersonList()) : null;
+            savedOrder = isConsistent ? manifest.get().getOrder() : null;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads and converts the shards named {@code shardNames} in {@code shardDirectory} in parallel.
+     */
+    private static List<Shard> readShards(Path shardDirectory, List<String> shardNames) throws DataLoadingException {
+        List<Callable<Shard>> tasks = new ArrayList<>();
+        for (String shardName : shardNames) {
+            tasks.add(() -> Shard.read(shardDirectory.resolve(shardName)));
+        }
+
+        List<Shard> shards = new ArrayList<>();
+        for (Future<Shard> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+            try {
+                shards.add(future.get());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof DataLoadingException) {
+                    throw (DataLoadingException) e.getCause();
+                }
+                throw new DataLoadingException(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DataLoadingException(e);
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * Adds the persons in {@code shards} to {@code loader} in the order of the ids in {@code order}, followed by any
+     * persons {@code order} does not list. Returns false if the shards and {@code order} do not list the same
+     * persons exactly once.
+     *
+     * @throws IllegalValueException if a person duplicates another person.
+     */
+    private static boolean addInOrder(List<Shard> shards, List<Integer> order, AddressBookLoader loader)
+            throws IllegalValueException {
+        boolean isConsistent = true;
+        // the position of each person in its shard, by shard and by id
+        Map<Integer, Shard> shardsById = new LinkedHashMap<>();
+        Map<Integer, Integer> positionsById = new HashMap<>();
+        for (Shard shard : shards) {
+            for (int i = 0; i < shard.persons.size(); i++) {
+                int personId = shard.persons.get(i).getPersonId();
+                if (personId <= 0) {
+                    // stored without an id; the loader assigns one
+                    loader.add(shard.persons.get(i), shard.matchedPersonIds.get(i));
+                    isConsistent = false;
+                } else if (shardsById.putIfAbsent(personId, shard) == null) {
+                    positionsById.put(personId, i);
+                } else {
+                    logger.warning("Ignoring a second copy of the person with id " + personId + " in another shard.");
+                    isConsistent = false;
+                }
+            }
+        }
+
+        for (Integer personId : order) {
+            Shard shard = shardsById.remove(personId);
+            if (shard == null) {
+                isConsistent = false;
+                continue;
+            }
+            int position = positionsById.get(personId);
+            loader.add(shard.persons.get(position), shard.matchedPersonIds.get(position));
+        }
+        for (Map.Entry<Integer, Shard> entry : shardsById.entrySet()) {
+            int position = positionsById.get(entry.getKey());
+            loader.add(entry.getValue().persons.get(position), entry.getValue().matchedPersonIds.get(position));
+            isConsistent = false;
+        }
+        return isConsistent;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to the manifest at {@link #getAddressBookFilePath()} skip unchanged shards; saves to any other
+     * location write every shard there.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isSavedBefore = filePath.equals(this.filePath) && savedShards != null;
+        Map<String, List<Person>> previousShards = isSavedBefore ? savedShards : Collections.emptyMap();
+        if (filePath.equals(this.filePath)) {
+            savedShards = null; // unknown until the save completes
+        }
+
+        Map<String, List<Person>> shards = groupByShard(addressBook.getPersonList());
+        Path shardDirectory = getShardDirectory(filePath);
+        Files.createDirectories(shardDirectory);
+        int writtenShardCount = 0;
+        for (Map.Entry<String, List<Person>> shard : shards.entrySet()) {
+            if (isSameShard(previousShards.get(shard.getKey()), shard.getValue())) {
+                continue;
+            }
+            ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(shard.getValue()));
+            shardStorage.saveAddressBook(() -> persons, shardDirectory.resolve(shard.getKey()));
+            writtenShardCount++;
+        }
+
+        List<Integer> order = new ArrayList<>(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            order.add(person.getPersonId());
+        }
+        if (!isSavedBefore || !order.equals(savedOrder) || !shards.keySet().equals(previousShards.keySet())) {
+            JsonUtil.saveJsonFile(new JsonShardManifest(new ArrayList<>(shards.keySet()), order), filePath);
+        }
+        deleteUnlistedShards(shardDirectory, shards);
+        logger.fine("Saved " + writtenShardCount + " of " + shards.size() + " shards of " + filePath);
+
+        if (filePath.equals(this.filePath)) {
+            savedShards = shards;
+            savedOrder = order;
+        }
+    }
+
+    /**
+     * Returns true if {@code saved} holds exactly the persons in {@code persons}, in the same order.
+     */
+    private static boolean isSameShard(List<Person> saved, List<Person> persons) {
+        if (saved == null || saved.size() != persons.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            // commands replace a person they change with an edited copy and never modify one in place (see
+            // LogicManager#snapshotOf), so a person that is still the same object is unchanged
+            if (saved.get(i) != persons.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deletes the shard files in {@code shardDirectory} that are not among {@code shards}, such as the shard of a
+     * subject nobody teaches or studies any more.
+     */
+    private static void deleteUnlistedShards(Path shardDirectory, Map<String, List<Person>> shards)
+            throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory, "*" + SHARD_FILE_EXTENSION)) {
+            for (Path file : files) {
+                if (!shards.containsKey(file.getFileName().toString())) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns {@code persons} grouped by shard file name, in their order within each shard.
+     */
+    private static Map<String, List<Person>> groupByShard(List<Person> persons) {
+        Map<String, List<Person>> shards = new TreeMap<>();
+        for (Person person : persons) {
+            shards.computeIfAbsent(getShardFileName(person), name -> new ArrayList<>()).add(person);
+        }
+        return shards;
+    }
+
+    /**
+     * The persons of one shard file, converted into model persons but not yet matched.
+     */
+    private static class Shard {
+        private final List<Person> persons = new ArrayList<>();
+        /** The id of the person each person was stored as matched with, or null. */
+        private final List<Integer> matchedPersonIds = new ArrayList<>();
+
+        /**
+         * Reads and converts the shard at {@code shardPath}.
+         *
+         * @throws DataLoadingException if the shard is missing, could not be read or holds an invalid person.
+         */
+        static Shard read(Path shardPath) throws DataLoadingException {
+            JsonSerializableAddressBook stored = JsonUtil.readJsonFile(shardPath, JsonSerializableAddressBook.class)
+                    .orElseThrow(() -> new DataLoadingException(new IOException("Missing shard " + shardPath)));
+            Shard shard = new Shard();
+            try {
+                for (JsonAdaptedPerson person : stored.getPersons()) {
+                    shard.persons.add(person.toModelType());
+                    shard.matchedPersonIds.add(person.getMatchedPersonId());
+                }
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + shardPath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            return shard;
+        }
+    }
+}
@@ -75,4 +75,9 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public boolean recoverAddressBook() throws IOException {
+        return addressBookStorage.recoverAddressBook();
+    }
+
 }
@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread.
+ * Snapshots submitted within one flush interval are coalesced, so only the latest of them is written.
+ * A failed save is kept for the caller to report through {@link #takeFailure()}, and its snapshot is written
+ * again with the next save unless a newer snapshot has been submitted since.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final AddressBookStorage storage;
+    private final Duration flushInterval;
+    private final ScheduledThreadPoolExecutor executor;
+
+    private final AtomicReference<ReadOnlyAddressBook> pending = new AtomicReference<>();
+    private final AtomicBoolean isFlushScheduled = new AtomicBoolean();
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+    /** Held while taking and writing a snapshot, so snapshots reach the storage in the order they were taken. */
+    private final Object saveLock = new Object();
+
+    /**
+     * Creates a saver that writes to {@code storage} at most once every {@code flushInterval}.
+     * The snapshots passed to {@link #submit(ReadOnlyAddressBook)} must not be modified afterwards.
+     */
+    public WriteBehindSaver(AddressBookStorage storage, Duration flushInterval) {
+        requireNonNull(storage);
+        requireNonNull(flushInterval);
+        this.storage = storage;
+        this.flushInterval = flushInterval;
+        executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Queues {@code snapshot} to be saved after the flush interval, replacing any snapshot not yet saved.
+     */
+    public void submit(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        pending.set(snapshot);
+        if (isFlushScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::flushInBackground, flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the error of the latest failed background save, if it has not been returned before.
+     */
+    public Optional<IOException> takeFailure() {
+        return Optional.ofNullable(failure.getAndSet(null));
+    }
+
+    /**
+     * Saves the latest submitted snapshot on the calling thread, if it has not been saved yet, and returns once it
+     * has been written.
+     *
+     * @throws IOException if the snapshot could not be saved.
+     */
+    public void flush() throws IOException {
+        synchronized (saveLock) {
+            ReadOnlyAddressBook snapshot = pending.getAndSet(null);
+            if (snapshot == null) {
+                return;
+            }
+            try {
+                storage.saveAddressBook(snapshot);
+            } catch (IOException e) {
+                pending.compareAndSet(null, snapshot);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Saves the latest submitted snapshot and stops the background thread. No snapshot should be submitted after.
+     *
+     * @throws IOException if the snapshot could not be saved.
+     */
+    public void close() throws IOException {
+        // cancels the scheduled save; a save already in progress finishes before flush() can take the lock
+        executor.shutdown();
+        flush();
+    }
+
+    private void flushInBackground() {
+        isFlushScheduled.set(false);
+        try {
+            flush();
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+            failure.set(e);
+        }
+    }
+}
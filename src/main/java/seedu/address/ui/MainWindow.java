@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -12,6 +13,8 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimer;
+import seedu.address.commons.core.StartupTimer.Phase;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -33,6 +36,7 @@ public class MainWindow extends UiPart<Stage> {
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
     private StatsWindow statsWindow;
 
@@ -67,7 +71,7 @@ public class MainWindow extends UiPart<Stage> {
         setAccelerators();
 
         helpWindow = new HelpWindow();
-        statsWindow = new StatsWindow();
+        statsWindow = new StatsWindow(logic.getAddressBook().getPersonList(), logic::getStatisticsText);
     }
 
     public Stage getPrimaryStage() {
@@ -112,19 +116,53 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
+        long fxmlStart = System.nanoTime();
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        StartupTimer.record(Phase.PERSON_LIST_PANEL_FXML, fxmlStart);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        if (logic.isLoading()) {
+            statusBarFooter.showLoadingProgress(0, -1);
+        }
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Shows that {@code loadedCount} of the {@code totalCount} persons in the address book have been loaded.
+     */
+    void showLoadingProgress(int loadedCount, int totalCount) {
+        statusBarFooter.showLoadingProgress(loadedCount, totalCount);
+    }
+
+    /**
+     * Hides the loading progress, then executes the commands entered while the address book was being loaded,
+     * in the order they were entered, or shows why the address book could not be loaded.
+     */
+    void finishLoading() {
+        statusBarFooter.hideLoadingProgress();
+        List<String> queuedCommands;
+        try {
+            queuedCommands = logic.finishLoading();
+        } catch (CommandException e) {
+            resultDisplay.setFeedbackToUser(e.getMessage());
+            return;
+        }
+        for (String commandText : queuedCommands) {
+            try {
+                executeCommand(commandText);
+            } catch (CommandException | ParseException e) {
+                // already shown in the result display; the remaining commands still run, as they were entered
+            }
+        }
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
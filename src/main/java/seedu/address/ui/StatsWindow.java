@@ -1,12 +1,19 @@
 package seedu.address.ui;
 
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
+import javafx.beans.Observable;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
 
 /**
  * Controller for a stats page
@@ -17,6 +24,12 @@ public class StatsWindow extends UiPart<Stage> {
 
     private static final Logger logger = LogsCenter.getLogger(StatsWindow.class);
     private static final String FXML = "StatsWindow.fxml"; // changed from HelpWindow.fxml
+    /** The shortest time between two refreshes, over which changes to the persons are coalesced. */
+    private static final Duration REFRESH_INTERVAL = Duration.millis(250);
+
+    private final PauseTransition refreshDelay = new PauseTransition(REFRESH_INTERVAL);
+    private Supplier<String> statisticsText;
+    private boolean isStale;
 
     @FXML
     private Button copyButton;
@@ -42,6 +55,35 @@ public class StatsWindow extends UiPart<Stage> {
         this(new Stage());
     }
 
+    /**
+     * Creates a new StatsWindow that shows {@code statisticsText} and refreshes it while showing whenever
+     * {@code persons} changes, at most once every {@link #REFRESH_INTERVAL}.
+     */
+    public StatsWindow(ObservableList<Person> persons, Supplier<String> statisticsText) {
+        this(new Stage());
+        this.statisticsText = statisticsText;
+        refreshDelay.setOnFinished(event -> refresh());
+        persons.addListener((Observable observable) -> requestRefresh());
+        isStale = true;
+    }
+
+    /**
+     * Schedules a refresh at the end of the current interval, so that a burst of changes, such as a command
+     * editing many persons or a file being loaded, is shown once rather than once per change.
+     * Changes while the window is hidden are shown when it is next shown.
+     */
+    private void requestRefresh() {
+        if (!isShowing()) {
+            isStale = true;
+        } else if (refreshDelay.getStatus() != Animation.Status.RUNNING) {
+            refreshDelay.playFromStart();
+        }
+    }
+
+    private void refresh() {
+        setStatsText(statisticsText.get());
+    }
+
     /**
      * Shows the stats window.
      * @throws IllegalStateException
@@ -62,6 +104,9 @@ public class StatsWindow extends UiPart<Stage> {
      */
     public void show() {
         logger.fine("Showing stats page about the application.");
+        if (isStale) {
+            refresh();
+        }
         getRoot().show();
         getRoot().centerOnScreen();
     }
@@ -92,6 +137,7 @@ public class StatsWindow extends UiPart<Stage> {
      * Call this before show() to update the displayed text.
      */
     public void setStatsText(String text) {
+        isStale = false;
         // defensive: ensure non-null
         if (text == null) {
             helpMessage.setText(STATS_MESSAGE);
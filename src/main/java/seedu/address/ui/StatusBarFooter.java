@@ -5,6 +5,8 @@ import java.nio.file.Paths;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 
 /**
@@ -12,11 +14,23 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String MESSAGE_LOADING = "Loading address book...";
+    public static final String MESSAGE_LOADING_PROGRESS = "Loading address book: %1$d of %2$d persons";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private HBox loadingStatusBox;
+
+    @FXML
+    private Label loadingStatus;
+
+    @FXML
+    private ProgressBar loadingProgress;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +39,28 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows that the address book is being loaded, with {@code loadedCount} of its {@code totalCount} persons
+     * loaded so far. A negative {@code totalCount} means the number of persons is not known yet.
+     */
+    public void showLoadingProgress(int loadedCount, int totalCount) {
+        loadingStatusBox.setManaged(true);
+        loadingStatusBox.setVisible(true);
+        if (totalCount < 0) {
+            loadingStatus.setText(MESSAGE_LOADING);
+            loadingProgress.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
+        } else {
+            loadingStatus.setText(String.format(MESSAGE_LOADING_PROGRESS, loadedCount, totalCount));
+            loadingProgress.setProgress(totalCount == 0 ? 1 : (double) loadedCount / totalCount);
+        }
+    }
+
+    /**
+     * Hides the loading progress once the address book has been loaded.
+     */
+    public void hideLoadingProgress() {
+        loadingStatusBox.setVisible(false);
+        loadingStatusBox.setManaged(false);
+    }
+
 }
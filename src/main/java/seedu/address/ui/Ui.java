@@ -10,4 +10,17 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Shows that {@code loadedCount} of the {@code totalCount} persons in the address book have been loaded.
+     * Must be called on the JavaFX application thread.
+     */
+    void showLoadingProgress(int loadedCount, int totalCount);
+
+    /**
+     * Shows that the address book has been loaded and executes the commands entered while it was being loaded,
+     * or shows why it could not be loaded.
+     * Must be called on the JavaFX application thread.
+     */
+    void finishLoading();
+
 }
@@ -9,6 +9,9 @@ import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimer;
+import seedu.address.commons.core.StartupTimer.Milestone;
+import seedu.address.commons.core.StartupTimer.Phase;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 
@@ -40,9 +43,12 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
+            long fxmlStart = System.nanoTime();
             mainWindow = new MainWindow(primaryStage, logic);
+            StartupTimer.record(Phase.MAIN_WINDOW_FXML, fxmlStart);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            StartupTimer.reach(Milestone.WINDOW_SHOWN);
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -50,6 +56,20 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showLoadingProgress(int loadedCount, int totalCount) {
+        if (mainWindow != null) {
+            mainWindow.showLoadingProgress(loadedCount, totalCount);
+        }
+    }
+
+    @Override
+    public void finishLoading() {
+        if (mainWindow != null) {
+            mainWindow.finishLoading();
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -39,10 +39,24 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validStartupReportPath_success() {
+        parametersStub.namedParameters.put("startup-report", "startup.csv");
+        expected.setStartupReportPath(Paths.get("startup.csv"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidStartupReportPath_success() {
+        parametersStub.namedParameters.put("startup-report", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", startupReportPath=" + appParameters.getStartupReportPath() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +80,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different startup report path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setStartupReportPath(Paths.get("startup.csv"));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
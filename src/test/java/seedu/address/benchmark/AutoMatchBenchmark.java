@@ -0,0 +1,62 @@
+package seedu.address.benchmark;
+
+import java.util.Random;
+
+import seedu.address.logic.commands.AutomatchCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures how long {@code automatch} takes on pools of equally many unmatched students and tutors with random
+ * subjects, levels and prices, including applying the matches to the model.
+ *
+ * Not run as part of the test suite; use {@code gradlew benchmark -Pbenchmark=AutoMatchBenchmark} instead.
+ */
+public class AutoMatchBenchmark {
+
+    private static final int[] POOL_SIZES = {12_500, 25_000, 50_000};
+    private static final String[] SUBJECTS = {"english", "science", "mathematics"};
+
+    /**
+     * Runs the benchmark and prints one line per pool size.
+     */
+    public static void main(String[] args) {
+        System.out.printf("%10s %10s %14s %12s%n", "students", "tutors", "automatch (ms)", "matched");
+        for (int poolSize : POOL_SIZES) {
+            Model model = new ModelManager(generateAddressBook(poolSize), new UserPrefs());
+            long start = System.nanoTime();
+            String feedback = new AutomatchCommand().execute(model).getFeedbackToUser();
+            long end = System.nanoTime();
+            long matched = model.getAddressBook().getPersonList().stream()
+                    .filter(person -> person.isStudent() && person.getMatchedPerson() != null)
+                    .count();
+            System.out.printf("%10d %10d %14.1f %12d%n", poolSize, poolSize, (end - start) / 1e6, matched);
+            System.out.println("  " + feedback);
+        }
+    }
+
+    private static AddressBook generateAddressBook(int poolSize) {
+        Random random = new Random(poolSize);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 2 * poolSize; i++) {
+            boolean isTutor = i % 2 == 0;
+            int levelStart = 1 + random.nextInt(6);
+            int levelEnd = isTutor ? levelStart + random.nextInt(7 - levelStart) : levelStart;
+            int minPrice = 10 + random.nextInt(100);
+            int maxPrice = minPrice + random.nextInt(isTutor ? 20 : 40);
+            addressBook.addPerson(new PersonBuilder()
+                    .withName("Person " + i)
+                    .withPhone(String.valueOf(60_000_000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .withRole(isTutor ? "tutor" : "student")
+                    .withSubject(SUBJECTS[random.nextInt(SUBJECTS.length)])
+                    .withLevel(levelStart + "-" + levelEnd)
+                    .withPrice(minPrice + "-" + maxPrice)
+                    .build());
+        }
+        return addressBook;
+    }
+}
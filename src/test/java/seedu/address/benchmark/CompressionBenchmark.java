@@ -0,0 +1,112 @@
+package seedu.address.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import seedu.address.commons.core.DataFileCompression;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures the trade-off between file size and save and read time of each {@link DataFileCompression} on an
+ * address book of realistic persons, with names, addresses and tags drawn at random from small vocabularies
+ * rather than numbered, so the data compresses about as well as real data does.
+ *
+ * Not run as part of the test suite; use {@code gradlew benchmark} instead.
+ */
+public class CompressionBenchmark {
+
+    private static final int SIZE = 50_000;
+    private static final int RUNS = 5;
+    private static final long SEED = 2103;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling",
+        "Siti", "Rajesh", "Mei Hua", "Daniel", "Nur Aisyah", "Jun Jie", "Priya", "Hafiz", "Grace"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Ng", "Kumar", "Wong", "Abdullah", "Chua", "Goh", "Rahman", "Teo"};
+    private static final String[] STREETS = {"Ang Mo Kio Ave 3", "Bedok North St 1", "Clementi Rd", "Jurong West St 42",
+        "Serangoon Ave 2", "Tampines St 81", "Toa Payoh Lor 1", "Woodlands Dr 14", "Yishun Ring Rd"};
+    private static final String[] TAGS = {"weekends", "online", "urgent", "groupclass", "exam", "beginner",
+        "advanced", "flexible", "evening"};
+    private static final String[] SUBJECTS = {"english", "science", "mathematics"};
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "hotmail.com", "yahoo.com.sg", "u.nus.edu"};
+
+    /**
+     * Runs the benchmark and prints one line per compression.
+     */
+    public static void main(String[] args) throws Exception {
+        Path directory = Files.createTempDirectory("compression-benchmark");
+        AddressBook addressBook = generateAddressBook(SIZE);
+        long uncompressedSize = 0;
+        System.out.printf("%d persons%n", SIZE);
+        System.out.printf("%12s %12s %8s %12s %12s%n", "compression", "size (KiB)", "ratio", "save (ms)", "read (ms)");
+        for (DataFileCompression compression : DataFileCompression.values()) {
+            Path file = directory.resolve("addressbook-" + compression + ".json");
+            JsonAddressBookStorage storage = new JsonAddressBookStorage(file, compression);
+
+            long bestSave = Long.MAX_VALUE;
+            long bestRead = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                storage.saveAddressBook(addressBook);
+                long saved = System.nanoTime();
+                storage.readAddressBook().get();
+                long end = System.nanoTime();
+                bestSave = Math.min(bestSave, saved - start);
+                bestRead = Math.min(bestRead, end - saved);
+            }
+            long size = Files.size(file);
+            if (compression == DataFileCompression.NONE) {
+                uncompressedSize = size;
+            }
+            System.out.printf("%12s %12d %8.2f %12.1f %12.1f%n", compression, size / 1024,
+                    (double) uncompressedSize / size, bestSave / 1e6, bestRead / 1e6);
+            Files.delete(file);
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * Returns an address book of {@code size} persons with distinct phone numbers and emails, and names, addresses
+     * and tags that repeat as they would among real tutors and students.
+     */
+    public static AddressBook generateAddressBook(int size) {
+        Random random = new Random(SEED);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(generatePerson(i, random));
+        }
+        return addressBook;
+    }
+
+    private static Person generatePerson(int i, Random random) {
+        String firstName = pick(FIRST_NAMES, random);
+        String lastName = pick(LAST_NAMES, random);
+        int minLevel = 1 + random.nextInt(6);
+        int minPrice = 10 * (2 + random.nextInt(8));
+        String[] tags = new String[random.nextInt(3)];
+        for (int t = 0; t < tags.length; t++) {
+            tags[t] = pick(TAGS, random);
+        }
+        return new PersonBuilder()
+                .withName(firstName + " " + lastName + " " + i)
+                .withPhone(String.valueOf(80_000_000 + i))
+                .withEmail(firstName.replace(" ", "").toLowerCase() + "." + lastName.toLowerCase() + i + "@"
+                        + pick(EMAIL_DOMAINS, random))
+                .withAddress("Blk " + (100 + random.nextInt(900)) + " " + pick(STREETS, random) + ", #"
+                        + String.format("%02d-%03d", 1 + random.nextInt(25), random.nextInt(400)))
+                .withRole(random.nextInt(3) == 0 ? "tutor" : "student")
+                .withSubject(pick(SUBJECTS, random))
+                .withLevel(minLevel + "-" + (minLevel + random.nextInt(7 - minLevel)))
+                .withPrice(minPrice + "-" + (minPrice + 10 * random.nextInt(5)))
+                .withTags(tags)
+                .build();
+    }
+
+    private static String pick(String[] choices, Random random) {
+        return choices[random.nextInt(choices.length)];
+    }
+}
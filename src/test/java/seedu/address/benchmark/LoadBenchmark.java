@@ -0,0 +1,80 @@
+package seedu.address.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures how long it takes to load address books of increasing size from a JSON file into a {@code ModelManager}.
+ * Each size doubles the previous one, so linear scaling shows up as a roughly constant time per person.
+ *
+ * Not run as part of the test suite; use {@code gradlew benchmark} instead.
+ */
+public class LoadBenchmark {
+
+    private static final int[] SIZES = {12_500, 25_000, 50_000, 100_000};
+    private static final int RUNS = 5;
+    private static final String[] SUBJECTS = {"english", "science", "mathematics"};
+
+    /**
+     * Runs the benchmark and prints one line per address book size.
+     */
+    public static void main(String[] args) throws Exception {
+        Path directory = Files.createTempDirectory("load-benchmark");
+        System.out.printf("%10s %12s %12s %14s%n", "persons", "read (ms)", "model (ms)", "ns per person");
+        for (int size : SIZES) {
+            Path file = directory.resolve("addressbook-" + size + ".json");
+            JsonAddressBookStorage storage = new JsonAddressBookStorage(file);
+            storage.saveAddressBook(generateAddressBook(size));
+
+            long bestRead = Long.MAX_VALUE;
+            long bestModel = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                ReadOnlyAddressBook loaded = storage.readAddressBook().get();
+                long read = System.nanoTime();
+                new ModelManager(loaded, new UserPrefs());
+                long end = System.nanoTime();
+                bestRead = Math.min(bestRead, read - start);
+                bestModel = Math.min(bestModel, end - read);
+            }
+            System.out.printf("%10d %12.1f %12.1f %14d%n", size, bestRead / 1e6, bestModel / 1e6,
+                    (bestRead + bestModel) / size);
+            Files.delete(file);
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * Returns an address book of {@code size} persons with distinct phone numbers and emails.
+     */
+    public static AddressBook generateAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(generatePerson(i));
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the {@code i}-th person of the address books generated by {@link #generateAddressBook(int)}.
+     */
+    public static Person generatePerson(int i) {
+        return new PersonBuilder()
+                .withName("Person " + i)
+                .withPhone(String.valueOf(60_000_000 + i))
+                .withEmail("person" + i + "@example.com")
+                .withRole(i % 2 == 0 ? "tutor" : "student")
+                .withSubject(SUBJECTS[i % SUBJECTS.length])
+                .withLevel((1 + i % 3) + "-" + (4 + i % 3))
+                .withPrice((10 + i % 50) + "-" + (60 + i % 100))
+                .build();
+    }
+}
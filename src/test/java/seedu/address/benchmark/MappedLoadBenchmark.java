@@ -0,0 +1,70 @@
+package seedu.address.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Random;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.MappedAddressBookStorage;
+
+/**
+ * Measures how long it takes to open binary address books of increasing size with a
+ * {@code MappedAddressBookStorage}, and to then read persons at random positions from them.
+ * The largest book is about 1 GB. Its persons are generated while it is written, so it never has to fit in memory.
+ *
+ * Not run as part of the test suite; use {@code gradlew benchmark -Pbenchmark=MappedLoadBenchmark} instead.
+ */
+public class MappedLoadBenchmark {
+
+    private static final int[] SIZES = {100_000, 1_000_000, 10_000_000};
+    private static final int RUNS = 5;
+    private static final int RANDOM_READS = 10_000;
+
+    /**
+     * Runs the benchmark and prints one line per address book size.
+     */
+    public static void main(String[] args) throws Exception {
+        Path directory = Files.createTempDirectory("mapped-load-benchmark");
+        System.out.printf("%10s %10s %12s %18s%n", "persons", "size (MB)", "open (ms)", "random read (us)");
+        for (int size : SIZES) {
+            Path file = directory.resolve("addressbook-" + size + ".bin");
+            ObservableList<Person> persons = FXCollections.observableList(new AbstractList<Person>() {
+                @Override
+                public Person get(int index) {
+                    return LoadBenchmark.generatePerson(index);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            });
+            new BinaryAddressBookStorage(file).saveAddressBook(() -> persons);
+
+            MappedAddressBookStorage storage = new MappedAddressBookStorage(file);
+            long bestOpen = Long.MAX_VALUE;
+            long bestRead = Long.MAX_VALUE;
+            Random random = new Random(size);
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                List<Person> mapped = storage.readAddressBook().get().getPersonList();
+                long opened = System.nanoTime();
+                for (int i = 0; i < RANDOM_READS; i++) {
+                    mapped.get(random.nextInt(size));
+                }
+                long end = System.nanoTime();
+                bestOpen = Math.min(bestOpen, opened - start);
+                bestRead = Math.min(bestRead, end - opened);
+            }
+            System.out.printf("%10d %10.1f %12.2f %18.2f%n", size, Files.size(file) / 1e6, bestOpen / 1e6,
+                    bestRead / 1e3 / RANDOM_READS);
+            Files.delete(file);
+        }
+        Files.delete(directory);
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAdaptedSession;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Compares saving address books of increasing size by streaming persons through a {@code JsonGenerator}, as
+ * {@link JsonAddressBookStorage} does, with the previous approach of adapting every person first and writing the
+ * whole address book as one string. Reports the best wall time and the bytes allocated by the saving thread for each.
+ * The adapted classes of the storage package are package-private, so the previous approach adapts each person into
+ * a map of the same properties instead.
+ *
+ * Not run as part of the test suite; use {@code gradlew benchmark -Pbenchmark=SaveBenchmark} instead.
+ * The largest size needs a heap of about 4 GB.
+ */
+public class SaveBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int WARMUP_RUNS = 3;
+    private static final int RUNS = 5;
+
+    /**
+     * Runs the benchmark and prints one line per address book size.
+     */
+    public static void main(String[] args) throws Exception {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        Path directory = Files.createTempDirectory("save-benchmark");
+        Path file = directory.resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(file);
+
+        System.out.printf("%10s %14s %14s %16s %16s%n", "persons", "string (ms)", "stream (ms)",
+                "string (MB alloc)", "stream (MB alloc)");
+        for (int size : SIZES) {
+            AddressBook addressBook = LoadBenchmark.generateAddressBook(size);
+            long bestString = Long.MAX_VALUE;
+            long bestStream = Long.MAX_VALUE;
+            long stringAllocated = 0;
+            long streamAllocated = 0;
+            for (int run = 0; run < WARMUP_RUNS; run++) {
+                FileUtil.writeToFile(file, JsonUtil.toJsonString(adaptAll(addressBook)));
+                storage.saveAddressBook(addressBook);
+            }
+            for (int run = 0; run < RUNS; run++) {
+                long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+                long start = System.nanoTime();
+                FileUtil.writeToFile(file, JsonUtil.toJsonString(adaptAll(addressBook)));
+                long end = System.nanoTime();
+                stringAllocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+                bestString = Math.min(bestString, end - start);
+
+                allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+                start = System.nanoTime();
+                storage.saveAddressBook(addressBook);
+                end = System.nanoTime();
+                streamAllocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+                bestStream = Math.min(bestStream, end - start);
+            }
+            System.out.printf("%10d %14.1f %14.1f %16.1f %16.1f%n", size, bestString / 1e6, bestStream / 1e6,
+                    stringAllocated / 1e6, streamAllocated / 1e6);
+        }
+        Files.deleteIfExists(file);
+        Files.delete(directory);
+    }
+
+    /**
+     * Returns every person of {@code addressBook} adapted into the properties it is saved with, as the previous
+     * approach held them all before writing any.
+     */
+    private static Map<String, Object> adaptAll(ReadOnlyAddressBook addressBook) {
+        List<Map<String, Object>> persons = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            Map<String, Object> adapted = new LinkedHashMap<>();
+            adapted.put("role", person.getRole());
+            adapted.put("name", person.getName().fullName);
+            adapted.put("phone", person.getPhone().value);
+            adapted.put("email", person.getEmail().value);
+            adapted.put("address", person.getAddress().value);
+            adapted.put("tags", person.getTags().stream().map(tag -> tag.tagName).toList());
+            adapted.put("subject", person.getSubject().subject);
+            adapted.put("level", person.getLevel().toString());
+            adapted.put("price", person.getPrice().toString());
+            adapted.put("personId", person.getPersonId());
+            adapted.put("matchedPersonId",
+                    person.getMatchedPerson() == null ? null : person.getMatchedPerson().getPersonId());
+            adapted.put("session", person.getSession() == null ? null : new JsonAdaptedSession(person.getSession()));
+            persons.add(adapted);
+        }
+        return Map.of("persons", persons);
+    }
+}
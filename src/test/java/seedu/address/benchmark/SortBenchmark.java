@@ -0,0 +1,73 @@
+package seedu.address.benchmark;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures how long {@code sort} takes by level, then price on address books of random persons, both through
+ * {@link ModelManager#sortPersons(List)}, which sorts the view of the filtered persons, and by sorting the person
+ * list in place with the comparators of the criteria.
+ *
+ * Not run as part of the test suite; use {@code gradlew benchmark -Pbenchmark=SortBenchmark} instead.
+ */
+public class SortBenchmark {
+
+    private static final int[] SIZES = {25_000, 50_000, 100_000};
+    private static final List<String> SORTED_BY = List.of("l/", "p/");
+    private static final int RUNS = 5;
+
+    /**
+     * Runs the benchmark and prints one line per address book size, with the fastest of a few runs of each.
+     */
+    public static void main(String[] args) {
+        System.out.printf("%10s %16s %18s%n", "persons", "sortPersons (ms)", "comparators (ms)");
+        for (int size : SIZES) {
+            AddressBook addressBook = generateAddressBook(size);
+            long packed = Long.MAX_VALUE;
+            long comparators = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                ModelManager model = new ModelManager(addressBook, new UserPrefs());
+                long start = System.nanoTime();
+                model.sortPersons(SORTED_BY);
+                model.getFilteredPersonList().get(0);
+                packed = Math.min(packed, System.nanoTime() - start);
+
+                AddressBook copy = new AddressBook(addressBook);
+                Comparator<Person> comparator = model.getComparatorForCriteria(SORTED_BY.get(0))
+                        .thenComparing(model.getComparatorForCriteria(SORTED_BY.get(1)));
+                start = System.nanoTime();
+                copy.sortPersons(comparator);
+                comparators = Math.min(comparators, System.nanoTime() - start);
+            }
+            System.out.printf("%10d %16.1f %18.1f%n", size, packed / 1e6, comparators / 1e6);
+        }
+    }
+
+    private static AddressBook generateAddressBook(int size) {
+        Random random = new Random(size);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            boolean isTutor = i % 2 == 0;
+            int levelStart = 1 + random.nextInt(6);
+            int levelEnd = isTutor ? levelStart + random.nextInt(7 - levelStart) : levelStart;
+            int minPrice = 10 + random.nextInt(100);
+            int maxPrice = minPrice + random.nextInt(40);
+            addressBook.addPerson(new PersonBuilder()
+                    .withName("Person " + i)
+                    .withPhone(String.valueOf(60_000_000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .withRole(isTutor ? "tutor" : "student")
+                    .withLevel(levelStart + "-" + levelEnd)
+                    .withPrice(minPrice + "-" + maxPrice)
+                    .build());
+        }
+        return addressBook;
+    }
+}
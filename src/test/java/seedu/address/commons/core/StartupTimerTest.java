@@ -0,0 +1,57 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StartupTimer.Milestone;
+import seedu.address.commons.core.StartupTimer.Phase;
+
+public class StartupTimerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @AfterEach
+    public void tearDown() {
+        StartupTimer.reset();
+    }
+
+    @Test
+    public void record_phaseRecordedTwice_addsUp() {
+        long now = System.nanoTime();
+        StartupTimer.record(Phase.MODEL_BUILD, now - 3_000_000);
+        StartupTimer.record(Phase.MODEL_BUILD, now - 4_000_000);
+
+        assertTrue(StartupTimer.getPhaseMillis(Phase.MODEL_BUILD) >= 7);
+        assertEquals(0, StartupTimer.getPhaseMillis(Phase.CONFIG));
+    }
+
+    @Test
+    public void reach_milestone_timedFromJvmStart() {
+        assertEquals(-1, StartupTimer.getMilestoneMillis(Milestone.READY));
+        StartupTimer.reach(Milestone.READY);
+        assertTrue(StartupTimer.getMilestoneMillis(Milestone.READY) >= 0);
+    }
+
+    @Test
+    public void appendReport_twoRuns_oneHeaderAndOneLinePerRun() throws Exception {
+        Path reportFile = testFolder.resolve("startup.csv");
+        StartupTimer.record(Phase.CONFIG, System.nanoTime());
+        StartupTimer.appendReport(reportFile);
+        StartupTimer.appendReport(reportFile);
+
+        List<String> lines = Files.readAllLines(reportFile);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).startsWith("window_shown_ms,ready_ms,config_ms,"));
+        assertEquals(Milestone.values().length + Phase.values().length, lines.get(1).split(",").length);
+        assertEquals(lines.get(1), lines.get(2));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileCompression;
+
+public class CompressionUtilTest {
+
+    private static final byte[] CONTENT = "{ \"persons\" : [ ] }\n".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void compress_eachCompression_readBackUnchanged() throws Exception {
+        for (DataFileCompression compression : DataFileCompression.values()) {
+            Path file = testFolder.resolve(compression + ".json");
+            try (OutputStream out = CompressionUtil.compress(Files.newOutputStream(file), compression)) {
+                out.write(CONTENT);
+            }
+
+            assertEquals(compression != DataFileCompression.NONE, CompressionUtil.isCompressed(file));
+            try (InputStream in = CompressionUtil.openInputStream(file)) {
+                assertArrayEquals(CONTENT, in.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    public void isCompressed_emptyFile_returnsFalse() throws Exception {
+        Path file = Files.createFile(testFolder.resolve("Empty.json"));
+        assertFalse(CompressionUtil.isCompressed(file));
+        try (InputStream in = CompressionUtil.openInputStream(file)) {
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void compress_smallerThanFast_whenRepetitive() throws Exception {
+        Path fast = testFolder.resolve("Fast.json");
+        Path small = testFolder.resolve("Small.json");
+        try (OutputStream out = CompressionUtil.compress(Files.newOutputStream(fast), DataFileCompression.FAST)) {
+            out.write(CONTENT);
+        }
+        try (OutputStream out = CompressionUtil.compress(Files.newOutputStream(small), DataFileCompression.SMALL)) {
+            out.write(CONTENT);
+        }
+        assertTrue(Files.size(small) <= Files.size(fast));
+        assertTrue(Files.size(fast) < CONTENT.length);
+    }
+
+    @Test
+    public void compress_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CompressionUtil.compress(null, DataFileCompression.FAST));
+        assertThrows(NullPointerException.class, () -> CompressionUtil.compress(OutputStream.nullOutputStream(),
+                null));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IntHashMapTest {
+
+    private final IntHashMap<String> map = new IntHashMap<>();
+
+    @Test
+    public void put_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    public void putAndGet() {
+        assertNull(map.put(7, "seven"));
+        assertEquals("seven", map.put(7, "SEVEN"));
+        assertEquals("SEVEN", map.get(7));
+        assertNull(map.get(8));
+        assertTrue(map.containsKey(7));
+        assertFalse(map.containsKey(-7));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void remove_onlyMatchingValue_removesMapping() {
+        String value = "one";
+        map.put(1, value);
+        assertFalse(map.remove(1, new String("one")));
+        assertTrue(map.remove(1, value));
+        assertTrue(map.isEmpty());
+        assertNull(map.remove(1));
+    }
+
+    @Test
+    public void clear_removesAllMappings() {
+        map.put(1, "one");
+        map.put(2, "two");
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1));
+    }
+
+    @Test
+    public void randomOperations_matchHashMap() {
+        Random random = new Random(2103);
+        Map<Integer, String> expected = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(500) - 250;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (int key = -250; key < 250; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,11 +14,16 @@ import static seedu.address.logic.commands.CommandTestUtil.PRICE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.ROLE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.SUBJECT_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +32,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -32,6 +40,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -86,6 +95,154 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandChangesNothing_skipsSave() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        String addCommand = AddCommand.COMMAND_WORD + ROLE_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + SUBJECT_DESC_AMY + LEVEL_DESC_AMY + PRICE_DESC_AMY;
+
+        logic.execute(addCommand);
+        assertEquals(1, logicManager.getPerformedSaveCount());
+
+        logic.execute(ListCommand.COMMAND_WORD + " students");
+        logic.execute(ListCommand.COMMAND_WORD + " tutors");
+        assertEquals(1, logicManager.getPerformedSaveCount());
+        assertEquals(2, logicManager.getSkippedSaveCount());
+
+        logic.execute("delete 1");
+        assertEquals(2, logicManager.getPerformedSaveCount());
+    }
+
+    @Test
+    public void execute_previousSaveFailed_retriesSave() {
+        int[] saveAttempts = new int[1];
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveAttempts[0]++;
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        assertThrows(CommandException.class, () -> logic.execute(ListCommand.COMMAND_WORD + " tutors"));
+        assertThrows(CommandException.class, () -> logic.execute(ListCommand.COMMAND_WORD + " tutors"));
+        assertEquals(2, saveAttempts[0]);
+    }
+
+    @Test
+    public void close_writeBehind_savesLatestAddressBook() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("WriteBehind.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath);
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, Duration.ofHours(1));
+
+        logic.execute(AddCommand.COMMAND_WORD + ROLE_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + SUBJECT_DESC_AMY + LEVEL_DESC_AMY + PRICE_DESC_AMY);
+        assertFalse(Files.exists(addressBookPath));
+
+        logic.close();
+        assertEquals(model.getAddressBook().getPersonList(),
+                addressBookStorage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void execute_writeBehindSaveFails_reportsErrorOnLaterCommand() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, Duration.ofMillis(1));
+
+        String expectedMessage = String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage());
+        long deadline = System.currentTimeMillis() + 10_000;
+        CommandException reported = null;
+        while (reported == null && System.currentTimeMillis() < deadline) {
+            try {
+                logic.execute(ListCommand.COMMAND_WORD);
+                Thread.sleep(10);
+            } catch (CommandException e) {
+                reported = e;
+            } catch (ParseException | InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        }
+        assertEquals(expectedMessage, reported.getMessage());
+    }
+
+    @Test
+    public void execute_whileLoading_queuesCommandUntilLoaded() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logic.startLoading();
+        String deleteCommand = "delete 1";
+
+        CommandResult result = logic.execute(deleteCommand);
+        assertEquals(String.format(LogicManager.MESSAGE_COMMAND_QUEUED, deleteCommand), result.getFeedbackToUser());
+        assertEquals(0, logicManager.getPerformedSaveCount());
+
+        logic.addLoadedPersons(List.of(ALICE, BENSON));
+        assertEquals(List.of(ALICE, BENSON), logic.getFilteredPersonList());
+        assertTrue(logic.isLoading());
+
+        assertEquals(List.of(deleteCommand), logic.finishLoading());
+        assertFalse(logic.isLoading());
+        logic.execute(deleteCommand);
+        assertEquals(List.of(BENSON), logic.getFilteredPersonList());
+        assertEquals(List.of(), logic.finishLoading());
+    }
+
+    @Test
+    public void addLoadedPersons_batchFails_staysLoadingAndRefusesCommands() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logic.startLoading();
+        logic.execute("delete 1");
+        logic.addLoadedPersons(List.of(ALICE));
+
+        // a duplicate person makes the batch fail
+        List<Person> failingBatch = List.of(BENSON, ALICE);
+        Model expectedModel = new ModelManager();
+        expectedModel.addPersons(List.of(ALICE));
+        String expectedMessage = null;
+        try {
+            expectedModel.addPersons(failingBatch);
+        } catch (DuplicatePersonException e) {
+            expectedMessage = String.format(LogicManager.MESSAGE_LOADING_FAILED, e.getMessage());
+        }
+        logic.addLoadedPersons(failingBatch);
+        logic.addLoadedPersons(List.of(AMY));
+        assertFalse(logic.getFilteredPersonList().contains(AMY));
+        String failureMessage = expectedMessage;
+
+        assertThrows(CommandException.class, failureMessage, () -> logic.finishLoading());
+        assertTrue(logic.isLoading());
+        assertThrows(CommandException.class, failureMessage, () -> logic.execute("delete 1"));
+        assertTrue(logic.getFilteredPersonList().contains(ALICE));
+        assertEquals(0, logicManager.getPerformedSaveCount());
+        assertFalse(Files.exists(temporaryFolder.resolve("ConnectEd.json")));
+    }
+
+    @Test
+    public void getStatisticsText_afterCommands_matchesStatsCommand() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + ROLE_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + SUBJECT_DESC_AMY + LEVEL_DESC_AMY + PRICE_DESC_AMY;
+        logic.execute(addCommand);
+
+        String statisticsText = logic.getStatisticsText();
+        assertEquals(logic.execute(StatsCommand.COMMAND_WORD).getStatsText(), statisticsText);
+
+        // the text reflects later changes without running stats again
+        logic.execute("delete 1");
+        assertEquals(StatsCommand.formatStatistics(model.getTutorStatistics(), model.getStudentStatistics()),
+                logic.getStatisticsText());
+        assertFalse(statisticsText.equals(logic.getStatisticsText()));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
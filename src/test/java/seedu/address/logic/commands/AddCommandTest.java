@@ -11,6 +11,8 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,7 +25,12 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.IdentityField;
+import seedu.address.model.person.Level;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Price;
+import seedu.address.model.person.Subject;
+import seedu.address.model.statistics.Statistics;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -126,6 +133,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -136,6 +148,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -146,6 +163,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Statistics getTutorStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Statistics getStudentStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Person getRepeatedPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -156,6 +183,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> getPersonById(int personId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<IdentityField> findIdentityClash(Person person, Person excluded) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getTutorsWithSubject(Subject subject) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getStudentsWithSubject(Subject subject) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findTutors(Subject subject, Level level, Price price) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findStudents(Subject subject, Level level, Price price) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -166,6 +223,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void replacePersons(List<Person> targets, List<Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AutomatchCommandTest {
+
+    @Test
+    public void execute_compatiblePersons_matchesAsManyAsPossible() {
+        Model model = new ModelManager();
+        Person student = addPerson(model, "Sam", "student", "science", "2", "10-40");
+        Person budgetStudent = addPerson(model, "Bea", "student", "science", "2", "10-20");
+        Person englishStudent = addPerson(model, "Eve", "student", "english", "2", "10-40");
+        Person cheapTutor = addPerson(model, "Tim", "tutor", "science", "1-3", "15-20");
+        Person dearTutor = addPerson(model, "Tom", "tutor", "science", "2", "35-60");
+
+        CommandResult result = new AutomatchCommand().execute(model);
+
+        assertEquals(String.format(AutomatchCommand.MESSAGE_SUCCESS, 2, 1, 0), result.getFeedbackToUser());
+        assertMatched(model, student, dearTutor);
+        assertMatched(model, budgetStudent, cheapTutor);
+        assertNull(find(model, englishStudent).getMatchedPerson());
+        assertEquals(5, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_onlyMatchedOrIncompatiblePersons_reportsNoMatches() {
+        Model model = new ModelManager();
+        addPerson(model, "Sam", "student", "science", "2", "10-40");
+        addPerson(model, "Tim", "tutor", "science", "1-3", "15-20");
+        new AutomatchCommand().execute(model);
+        addPerson(model, "Eve", "student", "english", "2", "10-40");
+
+        CommandResult result = new AutomatchCommand().execute(model);
+
+        assertEquals(AutomatchCommand.MESSAGE_NO_MATCHES, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        AutomatchCommand automatchCommand = new AutomatchCommand();
+
+        assertTrue(automatchCommand.equals(automatchCommand));
+        assertTrue(automatchCommand.equals(new AutomatchCommand()));
+        assertFalse(automatchCommand.equals(null));
+        assertFalse(automatchCommand.equals(new ClearCommand()));
+    }
+
+    private static Person addPerson(Model model, String name, String role, String subject, String level,
+            String price) {
+        Person person = new PersonBuilder()
+                .withName(name)
+                .withPhone(String.valueOf(80_000_000 + model.getAddressBook().getPersonList().size()))
+                .withEmail(name.toLowerCase() + "@example.com")
+                .withRole(role)
+                .withSubject(subject)
+                .withLevel(level)
+                .withPrice(price)
+                .build();
+        model.addPerson(person);
+        return person;
+    }
+
+    private static Person find(Model model, Person person) {
+        return model.getPersonById(person.getPersonId()).orElseThrow();
+    }
+
+    private static void assertMatched(Model model, Person student, Person tutor) {
+        Person matchedStudent = find(model, student);
+        Person matchedTutor = find(model, tutor);
+        assertTrue(matchedStudent.getMatchedPerson() == matchedTutor);
+        assertTrue(matchedTutor.getMatchedPerson() == matchedStudent);
+    }
+}
@@ -6,8 +6,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -23,9 +25,13 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Level;
 import seedu.address.model.person.MatchingLevelPredicate;
 import seedu.address.model.person.MatchingPricePredicate;
+import seedu.address.model.person.MatchingSubjectPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Price;
+import seedu.address.model.person.RolePredicate;
+import seedu.address.model.person.Subject;
+import seedu.address.testutil.PersonBuilder;
 /**
  * Integration tests for {@code FindCommand}.
  * Updated to handle all predicate types (name, subject, level, price)
@@ -94,6 +100,28 @@ public class FindCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_subjectWithIndex_sameResultAsFullScan() {
+        List<Subject> subjects = List.of(new Subject("science"), new Subject("english"));
+        Predicate<Person> predicate = new MatchingSubjectPredicate(subjects).and(new RolePredicate("students"));
+        FindCommand command = new FindCommand(predicate, subjects);
+        expectedModel.updateFilteredPersonList(predicate);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(DANIEL, ELLE, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_subjectWithIndex_followsLaterEdits() {
+        List<Subject> subjects = List.of(new Subject("english"));
+        new FindCommand(new MatchingSubjectPredicate(subjects), subjects).execute(model);
+        assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredPersonList());
+
+        Person englishFiona = new PersonBuilder(FIONA).withSubject("english").build();
+        model.setPerson(FIONA, englishFiona);
+        assertEquals(Arrays.asList(CARL, ELLE, englishFiona), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate =
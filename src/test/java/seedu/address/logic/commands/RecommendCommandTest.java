@@ -50,6 +50,9 @@ public class RecommendCommandTest {
 
         // different person -> returns false
         assertFalse(firstCommand.equals(secondCommand));
+
+        // different top K -> returns false
+        assertFalse(firstCommand.equals(new RecommendCommand(INDEX_FIRST_PERSON, true, true, true, 5)));
     }
 
     @Test
@@ -97,6 +100,18 @@ public class RecommendCommandTest {
         assertEquals(expectedStudents, result);
     }
 
+    @Test
+    public void execute_topK_showsBestScoringStudentsOnly() {
+        // ALICE is a tutor; DANIEL covers her whole price range while GEORGE only overlaps it at 30
+        RecommendCommand command =
+                new RecommendCommand(INDEX_FIRST_PERSON, false, true, false, 1);
+        String expectedMessage = String.format(RecommendCommand.MESSAGE_TOP_STUDENTS, 1,
+                String.format("%n1. %s (id: #%d, score: %.2f)", DANIEL.getName().fullName, DANIEL.getPersonId(),
+                        0.9));
+        assertCommandSuccess(command, model, expectedMessage, model);
+        assertEquals(List.of(DANIEL), model.getFilteredPersonList());
+    }
+
     @Test
     public void execute_noMatch() {
         // FIONA is a student, recommend tutors with impossible criteria (using FIONA's index)
@@ -109,6 +124,14 @@ public class RecommendCommandTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    public void execute_topKNoMatch_showsAllPersons() {
+        RecommendCommand command =
+                new RecommendCommand(INDEX_SIXTH_PERSON, true, true, true, 3);
+        assertCommandSuccess(command, model, RecommendCommand.MESSAGE_NO_MATCH_TUTORS, model);
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         RecommendCommand command =
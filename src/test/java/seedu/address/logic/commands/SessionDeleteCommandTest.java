@@ -128,6 +128,10 @@ public class SessionDeleteCommandTest {
         assertEquals(null, updatedStudent.getSession());
         assertEquals(updatedTutor.getMatchedPerson(), updatedStudent);
         assertEquals(updatedStudent.getMatchedPerson(), updatedTutor);
+
+        // the persons are replaced, not modified
+        assertEquals(session, tutor.getSession());
+        assertEquals(session, student.getSession());
     }
 
     @Test
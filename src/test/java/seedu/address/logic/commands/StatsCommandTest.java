@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +35,8 @@ public class StatsCommandTest {
         CommandResult result = command.execute(model);
 
         assertEquals(expected, result.getFeedbackToUser());
+        assertTrue(result.getStatsText().contains(tutorStats.getDistributions().toString()));
+        assertTrue(result.getStatsText().contains(studentStats.getDistributions().toString()));
         // model's filtered list should be reset to show all persons
         assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
     }
@@ -80,6 +80,24 @@ public class RecommendCommandParserTest {
         assertParseFailure(parser, "1 p/xyz", "Price specifier should not have a value.");
     }
 
+    @Test
+    public void parse_validIndexWithTop_returnsRecommendCommand() {
+        RecommendCommand expected = new RecommendCommand(Index.fromOneBased(1), false, true, false, 5);
+        assertParseSuccess(parser, "1 l/ top/5", expected);
+        assertParseSuccess(parser, "1 top/" + RecommendCommand.MAX_TOP,
+                new RecommendCommand(Index.fromOneBased(1), false, false, false, RecommendCommand.MAX_TOP));
+    }
+
+    @Test
+    public void parse_invalidTop_throwsParseException() {
+        assertParseFailure(parser, "1 top/", RecommendCommandParser.MESSAGE_INVALID_TOP);
+        assertParseFailure(parser, "1 top/0", RecommendCommandParser.MESSAGE_INVALID_TOP);
+        assertParseFailure(parser, "1 top/abc", RecommendCommandParser.MESSAGE_INVALID_TOP);
+        assertParseFailure(parser, "1 top/" + (RecommendCommand.MAX_TOP + 1),
+                RecommendCommandParser.MESSAGE_INVALID_TOP);
+        assertParseFailure(parser, "1 top/" + Integer.MAX_VALUE, RecommendCommandParser.MESSAGE_INVALID_TOP);
+    }
+
     @Test
     public void parse_excessiveWhitespace_returnsRecommendCommand() {
         RecommendCommand expected = new RecommendCommand(Index.fromOneBased(1), true, true, true);
@@ -7,12 +7,14 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -78,6 +80,41 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonById_tracksMutations() {
+        assertEquals(Optional.empty(), addressBook.getPersonById(ALICE.getPersonId()));
+
+        addressBook.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), addressBook.getPersonById(ALICE.getPersonId()));
+
+        addressBook.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), addressBook.getPersonById(ALICE.getPersonId()));
+        assertEquals(Optional.of(BOB), addressBook.getPersonById(BOB.getPersonId()));
+
+        addressBook.removePerson(BOB);
+        assertEquals(Optional.empty(), addressBook.getPersonById(BOB.getPersonId()));
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Optional.of(ALICE), addressBook.getPersonById(ALICE.getPersonId()));
+    }
+
+    @Test
+    public void assignPersonId_personsStoredWithoutIds_indexedByAssignedIds() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person bob = new PersonBuilder(BOB).build();
+        alice.setPersonId(0);
+        bob.setPersonId(0);
+        addressBook.addPerson(alice);
+        addressBook.addPerson(bob);
+
+        addressBook.assignPersonId(alice, 41);
+        addressBook.assignPersonId(bob, 42);
+        assertEquals(List.of(alice, bob), addressBook.getPersonList());
+        assertEquals(Optional.of(alice), addressBook.getPersonById(41));
+        assertEquals(Optional.of(bob), addressBook.getPersonById(42));
+        assertEquals(Optional.empty(), addressBook.getPersonById(0));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -7,16 +7,22 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +94,64 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void addPersons_filterApplied_keepsFilter() {
+        modelManager.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_TUTORS);
+        modelManager.addPersons(Arrays.asList(ALICE, DANIEL));
+        assertTrue(modelManager.hasPerson(DANIEL));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortPersons_byPrice_ordersViewByMinThenMaxAndKeepsTies() {
+        Person cheapNarrow = new PersonBuilder().withName("A").withPhone("81111111").withEmail("a@example.com")
+                .withPrice("20-30").build();
+        Person cheapWide = new PersonBuilder().withName("B").withPhone("82222222").withEmail("b@example.com")
+                .withPrice("20-50").build();
+        Person cheapWideToo = new PersonBuilder().withName("C").withPhone("83333333").withEmail("c@example.com")
+                .withPrice("20-50").build();
+        Person dear = new PersonBuilder().withName("D").withPhone("84444444").withEmail("d@example.com")
+                .withPrice("150").build();
+        List<Person> added = Arrays.asList(dear, cheapWide, cheapWideToo, cheapNarrow);
+        modelManager.addPersons(added);
+
+        modelManager.sortPersons(Arrays.asList("p/"));
+        assertEquals(Arrays.asList(cheapNarrow, cheapWide, cheapWideToo, dear), modelManager.getFilteredPersonList());
+        assertEquals(added, modelManager.getAddressBook().getPersonList());
+
+        modelManager.sortPersons(List.of());
+        assertEquals(added, modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortPersons_byLevelThenPrice_sameAsComparators() {
+        AddressBook addressBook = getTypicalAddressBook();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        List<Person> expected = new ArrayList<>(addressBook.getPersonList());
+        expected.sort(modelManager.getComparatorForCriteria("l/")
+                .thenComparing(modelManager.getComparatorForCriteria("p/")));
+
+        modelManager.sortPersons(Arrays.asList("l/", "p/"));
+        assertEquals(expected, modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortPersons_personsAddedAndEdited_viewStaysSorted() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.sortPersons(Arrays.asList("p/"));
+        Person added = new PersonBuilder().withName("Zed").withPhone("81234567").withEmail("zed@example.com")
+                .withPrice("1").build();
+        modelManager.addPerson(added);
+        assertEquals(added, modelManager.getFilteredPersonList().get(0));
+
+        Person edited = new PersonBuilder(added).withPrice("200").build();
+        modelManager.setPerson(added, edited);
+        List<Person> view = modelManager.getFilteredPersonList();
+        assertEquals(edited, view.get(view.size() - 1));
+        assertEquals(edited, modelManager.getAddressBook().getPersonList()
+                .get(modelManager.getAddressBook().getPersonList().size() - 1));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
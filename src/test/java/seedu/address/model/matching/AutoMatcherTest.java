@@ -0,0 +1,137 @@
+package seedu.address.model.matching;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AutoMatcherTest {
+
+    private static final String[] SUBJECTS = {"english", "science", "mathematics"};
+
+    @Test
+    public void match_noCompatibleTutor_leavesStudentUnmatched() {
+        Person student = person("student", 0, "english", "3", "20-30");
+        Person tutor = person("tutor", 1, "science", "3", "20-30");
+
+        assertEquals(-1, new AutoMatcher(List.of(student), List.of(tutor)).match()[0]);
+        assertEquals(0, new AutoMatcher(List.of(), List.of(tutor)).match().length);
+    }
+
+    @Test
+    public void match_greedyChoiceBlocksOtherStudent_reassignsTutors() {
+        // the first student prefers the tutor closest in price, who is the only tutor the second student can afford
+        Person flexible = person("student", 0, "science", "2", "10-40");
+        Person budget = person("student", 1, "science", "2", "10-20");
+        Person cheapTutor = person("tutor", 2, "science", "1-3", "15-20");
+        Person dearTutor = person("tutor", 3, "science", "2", "35-60");
+
+        int[] tutorOfStudent = new AutoMatcher(List.of(flexible, budget), List.of(dearTutor, cheapTutor)).match();
+
+        assertEquals(0, tutorOfStudent[0]);
+        assertEquals(1, tutorOfStudent[1]);
+    }
+
+    @Test
+    public void match_prefersClosestPrice() {
+        Person student = person("student", 0, "english", "4", "40-50");
+        Person cheap = person("tutor", 1, "english", "4", "10-41");
+        Person close = person("tutor", 2, "english", "3-5", "42-48");
+
+        assertEquals(1, new AutoMatcher(List.of(student), List.of(cheap, close)).match()[0]);
+    }
+
+    @Test
+    public void match_randomPools_findsMaximumCompatibleMatching() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 40; round++) {
+            List<Person> students = randomPersons(random, "student", 1 + random.nextInt(30), 0);
+            List<Person> tutors = randomPersons(random, "tutor", 1 + random.nextInt(30), 1000);
+
+            int[] tutorOfStudent = new AutoMatcher(students, tutors).match();
+
+            boolean[] taken = new boolean[tutors.size()];
+            int matched = 0;
+            for (int s = 0; s < students.size(); s++) {
+                int t = tutorOfStudent[s];
+                if (t < 0) {
+                    continue;
+                }
+                assertTrue(isCompatible(students.get(s), tutors.get(t)));
+                assertTrue(!taken[t]);
+                taken[t] = true;
+                matched++;
+            }
+            assertEquals(maximumMatchingSize(students, tutors), matched);
+        }
+    }
+
+    private static List<Person> randomPersons(Random random, String role, int count, int phoneOffset) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int levelStart = 1 + random.nextInt(6);
+            String level = role.equals("tutor")
+                    ? levelStart + "-" + (levelStart + random.nextInt(7 - levelStart))
+                    : String.valueOf(levelStart);
+            int minPrice = 1 + random.nextInt(100);
+            String price = minPrice + "-" + (minPrice + random.nextInt(40));
+            persons.add(person(role, phoneOffset + i, SUBJECTS[random.nextInt(SUBJECTS.length)], level, price));
+        }
+        return persons;
+    }
+
+    private static Person person(String role, int number, String subject, String level, String price) {
+        return new PersonBuilder()
+                .withRole(role)
+                .withPhone(String.valueOf(80_000_000 + number))
+                .withEmail("person" + number + "@example.com")
+                .withSubject(subject)
+                .withLevel(level)
+                .withPrice(price)
+                .build();
+    }
+
+    private static boolean isCompatible(Person student, Person tutor) {
+        return student.getSubject().equals(tutor.getSubject())
+                && student.getLevel().intersects(tutor.getLevel())
+                && student.getPrice().overlaps(tutor.getPrice());
+    }
+
+    /**
+     * Computes the size of a maximum matching with simple augmenting paths over the explicit compatibility graph.
+     */
+    private static int maximumMatchingSize(List<Person> students, List<Person> tutors) {
+        int[] studentOfTutor = new int[tutors.size()];
+        Arrays.fill(studentOfTutor, -1);
+        int size = 0;
+        for (int s = 0; s < students.size(); s++) {
+            if (augment(s, students, tutors, studentOfTutor, new boolean[tutors.size()])) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private static boolean augment(int s, List<Person> students, List<Person> tutors, int[] studentOfTutor,
+            boolean[] visited) {
+        for (int t = 0; t < tutors.size(); t++) {
+            if (visited[t] || !isCompatible(students.get(s), tutors.get(t))) {
+                continue;
+            }
+            visited[t] = true;
+            if (studentOfTutor[t] < 0 || augment(studentOfTutor[t], students, tutors, studentOfTutor, visited)) {
+                studentOfTutor[t] = s;
+                return true;
+            }
+        }
+        return false;
+    }
+}
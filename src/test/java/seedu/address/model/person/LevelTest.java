@@ -91,6 +91,13 @@ public class LevelTest {
         assertFalse(tutorRange.intersects(outside));
     }
 
+    @Test
+    public void getSortKey_ordersByStartThenEnd() {
+        assertTrue(Level.parse("1-6").getSortKey() < Level.parse("2").getSortKey());
+        assertTrue(Level.parse("2").getSortKey() < Level.parse("2-3").getSortKey());
+        assertTrue(Level.parse("6").getSortKey() < 1 << Level.SORT_KEY_BITS);
+    }
+
     @Test
     public void equals() {
         Level level = Level.parse("2-4");
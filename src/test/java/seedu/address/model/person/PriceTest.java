@@ -194,6 +194,14 @@ public class PriceTest {
         assertTrue(price1.hashCode() != price3.hashCode());
     }
 
+    @Test
+    public void getSortKey_ordersByMinThenMax() {
+        assertTrue(Price.parse("20-50").getSortKey() < Price.parse("30").getSortKey());
+        assertTrue(Price.parse("30").getSortKey() < Price.parse("30-31").getSortKey());
+        assertTrue(Price.parse("199-200").getSortKey() < Price.parse("200").getSortKey());
+        assertTrue(Price.parse("200").getSortKey() < 1 << Price.SORT_KEY_BITS);
+    }
+
     @Test
     public void toString_tests() {
         // Single value
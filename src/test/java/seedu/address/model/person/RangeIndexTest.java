@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class RangeIndexTest {
+
+    private final RangeIndex priceIndex = new RangeIndex(Price.MAX_PRICE,
+            person -> person.getPrice().getMin(), person -> person.getPrice().getMax());
+
+    @Test
+    public void collect_randomPersons_matchesOverlaps() {
+        Random random = new Random(2103);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int min = 1 + random.nextInt(Price.MAX_PRICE);
+            int max = min + random.nextInt(Price.MAX_PRICE - min + 1);
+            Person person = new PersonBuilder()
+                    .withPhone(String.valueOf(80_000_000 + i))
+                    .withRole(i % 3 == 0 ? "student" : "tutor")
+                    .withPrice(min + "-" + max)
+                    .build();
+            persons.add(person);
+            priceIndex.add(person);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            priceIndex.remove(persons.get(i));
+        }
+
+        for (int from = 1; from <= Price.MAX_PRICE; from += 7) {
+            for (int to = from; to <= Price.MAX_PRICE; to += 13) {
+                Price query = new Price(from, to);
+                Set<Person> expected = new HashSet<>();
+                for (int i = 0; i < persons.size(); i++) {
+                    Person person = persons.get(i);
+                    if ((i >= 100 || i % 2 == 1) && person.isTutor() && person.getPrice().overlaps(query)) {
+                        expected.add(person);
+                    }
+                }
+                List<Person> actual = new ArrayList<>();
+                priceIndex.collect(true, from, to, actual);
+                assertEquals(expected, new HashSet<>(actual));
+                assertEquals(expected.size(), actual.size());
+                assertEquals(expected.size(), priceIndex.count(true, from, to));
+            }
+        }
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        priceIndex.add(ALICE);
+        priceIndex.clear();
+        assertEquals(0, priceIndex.count(true, 1, Price.MAX_PRICE));
+        priceIndex.add(ALICE);
+        assertEquals(1, priceIndex.count(true, 1, Price.MAX_PRICE));
+    }
+}
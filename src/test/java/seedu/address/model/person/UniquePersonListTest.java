@@ -2,19 +2,30 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -58,6 +69,91 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void add_personWithSameEmail_reportsEmailClash() {
+        uniquePersonList.add(ALICE);
+        Person sameEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        assertThrows(DuplicatePersonException.class, new DuplicatePersonException(IdentityField.EMAIL).getMessage(), ()
+            -> uniquePersonList.add(sameEmail));
+    }
+
+    @Test
+    public void addAll_newPersons_addedInOneChange() {
+        uniquePersonList.add(ALICE);
+        int[] changes = new int[1];
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c -> changes[0]++);
+
+        uniquePersonList.addAll(List.of(BENSON, DANIEL));
+
+        assertEquals(List.of(ALICE, BENSON, DANIEL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changes[0]);
+        assertTrue(uniquePersonList.contains(DANIEL));
+    }
+
+    @Test
+    public void addAll_duplicatePerson_leavesListUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BENSON, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BENSON, BENSON)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BENSON));
+    }
+
+    @Test
+    public void getRepeatedPerson_samePhoneOrEmail_returnsExistingPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(ALICE, uniquePersonList.getRepeatedPerson(new PersonBuilder(AMY).withPhone(ALICE.getPhone().value)
+                .build()));
+        assertEquals(BOB, uniquePersonList.getRepeatedPerson(new PersonBuilder(AMY).withEmail(BOB.getEmail().value)
+                .build()));
+        assertNull(uniquePersonList.getRepeatedPerson(AMY));
+    }
+
+    @Test
+    public void findIdentityClash_reportsCollidingField() {
+        uniquePersonList.add(ALICE);
+        Person sameName = new PersonBuilder(BOB).withName(ALICE.getName().fullName).build();
+        Person samePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        Person sameEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        assertEquals(Optional.of(IdentityField.NAME), uniquePersonList.findIdentityClash(sameName, null));
+        assertEquals(Optional.of(IdentityField.PHONE), uniquePersonList.findIdentityClash(samePhone, null));
+        assertEquals(Optional.of(IdentityField.EMAIL), uniquePersonList.findIdentityClash(sameEmail, null));
+        assertEquals(Optional.empty(), uniquePersonList.findIdentityClash(BOB, null));
+
+        // clashes with the excluded person are ignored
+        assertEquals(Optional.empty(), uniquePersonList.findIdentityClash(sameName, ALICE));
+    }
+
+    @Test
+    public void findIdentityClash_afterRemoveAndSetPerson_indexesUpdated() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertEquals(Optional.empty(), uniquePersonList.findIdentityClash(ALICE, null));
+
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+        assertEquals(Optional.empty(), uniquePersonList.findIdentityClash(BOB, null));
+    }
+
+    @Test
+    public void setPersons_list_rebuildsIndexes() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPerson_editedPersonSharesEmailWithAnotherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(BOB.getEmail().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -162,6 +258,112 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsEveryClash() {
+        Person alicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        Person aliceEmail = new PersonBuilder(AMY).withEmail(ALICE.getEmail().value).build();
+        Person bobCopy = new PersonBuilder(BOB).withName("Bob Copy").build();
+        List<Person> persons = Arrays.asList(ALICE, alicePhone, aliceEmail, BOB, bobCopy);
+
+        List<IdentityClash> expectedClashes = List.of(
+                new IdentityClash(ALICE, alicePhone, IdentityField.PHONE),
+                new IdentityClash(ALICE, aliceEmail, IdentityField.EMAIL),
+                new IdentityClash(alicePhone, BOB, IdentityField.EMAIL),
+                new IdentityClash(BOB, bobCopy, IdentityField.PHONE),
+                new IdentityClash(alicePhone, bobCopy, IdentityField.EMAIL));
+        // the message describes every clash in order
+        assertThrows(DuplicatePersonException.class, new DuplicatePersonException(expectedClashes).getMessage(), ()
+            -> uniquePersonList.setPersons(persons));
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void replacePersons_validReplacements_replacesInPlaceWithOneChange() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, DANIEL));
+        Person editedAlice = new PersonBuilder(ALICE).withLevel("3").build();
+        Person editedDaniel = new PersonBuilder(DANIEL).withPhone("81234567").withEmail("daniel@example.com").build();
+        int[] changes = new int[1];
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c -> changes[0]++);
+
+        uniquePersonList.replacePersons(List.of(ALICE, DANIEL), List.of(editedAlice, editedDaniel));
+
+        assertEquals(List.of(editedAlice, BENSON, editedDaniel), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changes[0]);
+        assertFalse(uniquePersonList.contains(DANIEL));
+        assertEquals(List.of(editedAlice), uniquePersonList.findTutors(null, Level.parse("3"), null));
+    }
+
+    @Test
+    public void replacePersons_clashingEditedPersons_leavesListUnchanged() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, DANIEL));
+        Person editedAlice = new PersonBuilder(ALICE).withLevel("3").build();
+        Person danielWithBensonsPhone = new PersonBuilder(DANIEL).withPhone(BENSON.getPhone().value).build();
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replacePersons(
+                List.of(ALICE, DANIEL), List.of(editedAlice, danielWithBensonsPhone)));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.replacePersons(
+                List.of(ALICE, BOB), List.of(editedAlice, BOB)));
+
+        assertEquals(List.of(ALICE, BENSON, DANIEL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.empty(), uniquePersonList.findIdentityClash(DANIEL, DANIEL));
+        assertEquals(List.of(ALICE), uniquePersonList.findTutors(null, Level.parse("1"), null));
+    }
+
+    @Test
+    public void getTutorsWithSubject_tracksMutations() {
+        Subject science = new Subject("science");
+        Set<Person> scienceTutors = uniquePersonList.getTutorsWithSubject(science);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Set.of(ALICE, BOB), scienceTutors);
+        assertTrue(uniquePersonList.getStudentsWithSubject(science).isEmpty());
+
+        Person englishBob = new PersonBuilder(BOB).withSubject("english").build();
+        uniquePersonList.setPerson(BOB, englishBob);
+        assertEquals(Set.of(ALICE), scienceTutors);
+        assertEquals(Set.of(englishBob), uniquePersonList.getTutorsWithSubject(new Subject("english")));
+
+        uniquePersonList.remove(ALICE);
+        assertTrue(scienceTutors.isEmpty());
+
+        uniquePersonList.setPersons(List.of(ALICE));
+        assertEquals(Set.of(ALICE), scienceTutors);
+    }
+
+    @Test
+    public void findTutors_combinedRequirements_returnsCompatibleTutors() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        Subject science = new Subject("science");
+
+        assertEquals(Set.of(ALICE), Set.copyOf(uniquePersonList.findTutors(science, Level.parse("2"), null)));
+        assertEquals(Set.of(ALICE), Set.copyOf(uniquePersonList.findTutors(null, null, Price.parse("35"))));
+        assertEquals(Set.of(ALICE, BENSON), Set.copyOf(uniquePersonList.findTutors(null, Level.parse("2"), null)));
+        assertTrue(uniquePersonList.findTutors(science, Level.parse("3"), null).isEmpty());
+        assertEquals(Set.of(DANIEL, GEORGE), Set.copyOf(uniquePersonList.findStudents(science, null, null)));
+        assertEquals(Set.of(DANIEL, ELLE, FIONA, GEORGE), Set.copyOf(uniquePersonList.findStudents(null, null, null)));
+        assertEquals(Set.of(GEORGE), Set.copyOf(uniquePersonList.findStudents(science, Level.parse("2-6"),
+                Price.parse("10-25"))));
+    }
+
+    @Test
+    public void getVersion_mutations_changeVersion() {
+        long version = uniquePersonList.getVersion();
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.getVersion() != version);
+
+        version = uniquePersonList.getVersion();
+        uniquePersonList.contains(ALICE);
+        uniquePersonList.findTutors(null, null, null);
+        assertEquals(version, uniquePersonList.getVersion());
+
+        uniquePersonList.setPersons(getTypicalPersons());
+        assertTrue(uniquePersonList.getVersion() != version);
+
+        version = uniquePersonList.getVersion();
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.getVersion() != version);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
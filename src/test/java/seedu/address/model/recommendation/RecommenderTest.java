@@ -0,0 +1,76 @@
+package seedu.address.model.recommendation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class RecommenderTest {
+
+    private final Recommender recommender = new Recommender(DANIEL);
+
+    @Test
+    public void score_weighsEachCriterion() {
+        // same subject, covers the level and the whole price range, free
+        assertEquals(1.0, recommender.score(ALICE), 1e-9);
+        // different subject, does not cover level 1, price meets at 30 only
+        assertEquals(Recommender.PRICE_WEIGHT / 11 + Recommender.SESSION_WEIGHT, recommender.score(BENSON), 1e-9);
+
+        Person matchedAlice = new PersonBuilder(ALICE).build();
+        matchedAlice.setMatchedPerson(GEORGE);
+        assertEquals(1.0 - Recommender.SESSION_WEIGHT, recommender.score(matchedAlice), 1e-9);
+    }
+
+    @Test
+    public void topK_nonPositiveK_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> recommender.topK(List.of(ALICE), 0));
+    }
+
+    @Test
+    public void topK_fewCandidates_returnsBestFirst() {
+        List<ScoredPerson> top = recommender.topK(List.of(CARL, BENSON, ALICE), 2);
+        assertEquals(List.of(ALICE, BENSON), top.stream().map(ScoredPerson::getPerson).toList());
+    }
+
+    @Test
+    public void topK_maxValueK_returnsEveryCandidate() {
+        List<ScoredPerson> top = recommender.topK(List.of(CARL, BENSON, ALICE), Integer.MAX_VALUE);
+        assertEquals(List.of(ALICE, BENSON, CARL), top.stream().map(ScoredPerson::getPerson).toList());
+        assertEquals(List.of(), recommender.topK(List.of(), Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void topK_manyCandidates_matchesFullSort() {
+        List<Person> candidates = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            int min = 1 + i % 97;
+            candidates.add(new PersonBuilder()
+                    .withName("Tutor " + i)
+                    .withPhone(String.valueOf(80_000_000 + i))
+                    .withSubject(i % 3 == 0 ? "science" : "english")
+                    .withLevel((1 + i % 6) + "-6")
+                    .withPrice(min + "-" + (min + i % 50))
+                    .build());
+        }
+
+        List<ScoredPerson> expected = new ArrayList<>();
+        for (Person candidate : candidates) {
+            expected.add(new ScoredPerson(candidate, recommender.score(candidate)));
+        }
+        expected.sort(ScoredPerson.BEST_FIRST);
+
+        assertEquals(expected.subList(0, 25), recommender.topK(candidates, 25));
+        assertEquals(expected, recommender.topK(candidates, Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    // 1 occurs once, 3 four times and 5 five times
+    private final Histogram histogram = new Histogram(1, new int[] {1, 0, 4, 0, 5});
+
+    @Test
+    public void getCount_insideAndOutsideRange() {
+        assertEquals(4, histogram.getCount(3));
+        assertEquals(0, histogram.getCount(0));
+        assertEquals(0, histogram.getCount(6));
+        assertEquals(10, histogram.getTotal());
+        assertEquals(5, histogram.getCountBetween(0, 3));
+        assertEquals(10, histogram.getCountBetween(1, 100));
+    }
+
+    @Test
+    public void getPercentile_nearestRank() {
+        assertEquals(1, histogram.getPercentile(10));
+        assertEquals(3, histogram.getPercentile(11));
+        assertEquals(3, histogram.getPercentile(50));
+        assertEquals(5, histogram.getPercentile(51));
+        assertEquals(5, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void getPercentile_empty_returnsZero() {
+        assertEquals(0, Histogram.empty(1, 200).getPercentile(50));
+        assertEquals("N/A", Histogram.empty(1, 6).toString());
+    }
+
+    @Test
+    public void getPercentile_outOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, Histogram.MESSAGE_INVALID_PERCENTILE, () ->
+                histogram.getPercentile(0));
+        assertThrows(IllegalArgumentException.class, Histogram.MESSAGE_INVALID_PERCENTILE, () ->
+                histogram.getPercentile(101));
+    }
+
+    @Test
+    public void constructor_countsCopied() {
+        int[] counts = {1, 2};
+        Histogram copied = new Histogram(1, counts);
+        counts[0] = 5;
+        assertEquals(1, copied.getCount(1));
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(histogram.equals(new Histogram(1, new int[] {1, 0, 4, 0, 5})));
+        assertFalse(histogram.equals(new Histogram(2, new int[] {1, 0, 4, 0, 5})));
+        assertFalse(histogram.equals(null));
+        assertEquals("1 (1), 3 (4), 5 (5)", histogram.toString());
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.model.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class RunningStatisticsTest {
+
+    private static final Person ENGLISH_TUTOR = new PersonBuilder().withName("A").withPhone("81111111")
+            .withEmail("a@example.com").withRole("tutor").withSubject("english").withPrice("20-31").build();
+    private static final Person SCIENCE_TUTOR = new PersonBuilder().withName("B").withPhone("82222222")
+            .withEmail("b@example.com").withRole("tutor").withSubject("science").withPrice("40").build();
+    private static final Person SCIENCE_STUDENT = new PersonBuilder().withName("C").withPhone("83333333")
+            .withEmail("c@example.com").withRole("student").withSubject("science").withPrice("10-20").build();
+
+    @Test
+    public void add_personsOfEachRole_countedByRole() {
+        RunningStatistics statistics = new RunningStatistics();
+        statistics.add(ENGLISH_TUTOR);
+        statistics.add(SCIENCE_TUTOR);
+        statistics.add(SCIENCE_STUDENT);
+
+        TutorStatistics tutors = statistics.getTutorStatistics();
+        assertEquals(2, tutors.getTotalPersons());
+        assertEquals((25 + 40) / 2, tutors.getAveragePrice());
+        assertEquals("english (1), science (1)", tutors.getAllSubjects());
+        assertEquals("science", tutors.getMostCommonSubject());
+        assertEquals(0, tutors.getMatchedPerson());
+
+        StudentStatistics students = statistics.getStudentStatistics();
+        assertEquals(1, students.getTotalPersons());
+        assertEquals(15, students.getAveragePrice());
+        assertEquals("science (1)", students.getAllSubjects());
+    }
+
+    @Test
+    public void getMostCommonSubject_tie_latestSubjectAdded() {
+        RunningStatistics statistics = new RunningStatistics();
+        statistics.add(SCIENCE_TUTOR);
+        statistics.add(ENGLISH_TUTOR);
+        assertEquals("english", statistics.getTutorStatistics().getMostCommonSubject());
+
+        statistics.add(SCIENCE_STUDENT);
+        assertEquals("science", statistics.getStudentStatistics().getMostCommonSubject());
+    }
+
+    @Test
+    public void update_onlyPersonOfSubjectEdited_subjectOrderUnchanged() {
+        RunningStatistics statistics = new RunningStatistics();
+        statistics.add(ENGLISH_TUTOR);
+        statistics.add(SCIENCE_TUTOR);
+        assertEquals("english (1), science (1)", statistics.getTutorStatistics().getAllSubjects());
+        assertEquals("science", statistics.getTutorStatistics().getMostCommonSubject());
+
+        // an edit is counted as removing the person and adding the edited person
+        Person editedEnglishTutor = new PersonBuilder(ENGLISH_TUTOR).withPhone("81111112").build();
+        statistics.remove(ENGLISH_TUTOR);
+        statistics.add(editedEnglishTutor);
+
+        TutorStatistics tutors = statistics.getTutorStatistics();
+        assertEquals("english (1), science (1)", tutors.getAllSubjects());
+        assertEquals("science", tutors.getMostCommonSubject());
+    }
+
+    @Test
+    public void remove_lastOfSubject_subjectDropped() {
+        RunningStatistics statistics = new RunningStatistics();
+        statistics.add(ENGLISH_TUTOR);
+        statistics.add(SCIENCE_TUTOR);
+        statistics.remove(ENGLISH_TUTOR);
+
+        TutorStatistics tutors = statistics.getTutorStatistics();
+        assertEquals(1, tutors.getTotalPersons());
+        assertEquals(40, tutors.getAveragePrice());
+        assertEquals("science (1)", tutors.getAllSubjects());
+        assertEquals("science", tutors.getMostCommonSubject());
+
+        statistics.remove(SCIENCE_TUTOR);
+        assertEquals("N/A", statistics.getTutorStatistics().getAllSubjects());
+        assertEquals("N/A", statistics.getTutorStatistics().getMostCommonSubject());
+        assertEquals(0, statistics.getTutorStatistics().getAveragePrice());
+    }
+
+    @Test
+    public void getDistributions_ratesAndLevelsBySubject() {
+        Person wideTutor = new PersonBuilder().withName("D").withPhone("84444444").withEmail("d@example.com")
+                .withRole("tutor").withSubject("science").withLevel("2-4").withPrice("60").build();
+        Person student = new PersonBuilder(SCIENCE_STUDENT).withLevel("3").build();
+        RunningStatistics statistics = new RunningStatistics();
+        statistics.add(ENGLISH_TUTOR);
+        statistics.add(SCIENCE_TUTOR);
+        statistics.add(wideTutor);
+        statistics.add(student);
+
+        RoleDistributions tutors = statistics.getTutorStatistics().getDistributions();
+        assertEquals(3, tutors.getRates().getTotal());
+        assertEquals(40, tutors.getRates().getPercentile(50));
+        assertEquals(60, tutors.getRates().getPercentile(99));
+        assertEquals(1, tutors.getRates("english").getCount(25));
+        assertEquals(0, tutors.getRates("mathematics").getTotal());
+        assertEquals(2, tutors.getLevelCoverage("science").getCount(2));
+        assertEquals(1, tutors.getLevelCoverage("science").getCount(3));
+
+        SupplyDemand supplyDemand = new SupplyDemand(tutors, statistics.getStudentStatistics().getDistributions());
+        assertEquals(1.0, supplyDemand.getRatio("science", 3));
+        assertEquals(Double.POSITIVE_INFINITY, supplyDemand.getRatio("science", 2));
+        assertTrue(Double.isNaN(supplyDemand.getRatio("science", 6)));
+
+        // distributions read earlier are snapshots
+        statistics.remove(wideTutor);
+        assertEquals(2, tutors.getLevelCoverage("science").getCount(2));
+        assertEquals(1, statistics.getTutorStatistics().getDistributions().getLevelCoverage("science").getCount(2));
+    }
+
+    @Test
+    public void addressBook_changes_statisticsMatchRecalculation() {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        Person tutor = new PersonBuilder(ENGLISH_TUTOR).build();
+        Person student = new PersonBuilder(SCIENCE_STUDENT).build();
+        addressBook.addPerson(tutor);
+        addressBook.addPerson(student);
+        addressBook.restoreMatch(tutor, student);
+        addressBook.restoreMatch(student, tutor);
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        addressBook.setPerson(student, new PersonBuilder(student).withSubject("english").build());
+
+        assertStatisticsEqual(new TutorStatisticsCalculator(addressBook.getPersonList()).calculate(),
+                addressBook.getTutorStatistics());
+        assertStatisticsEqual(new StudentStatisticsCalculator(addressBook.getPersonList()).calculate(),
+                addressBook.getStudentStatistics());
+        assertEquals(1, addressBook.getTutorStatistics().getMatchedPerson());
+    }
+
+    private static void assertStatisticsEqual(Statistics expected, Statistics actual) {
+        assertEquals(expected.toString(), actual.toString());
+    }
+}
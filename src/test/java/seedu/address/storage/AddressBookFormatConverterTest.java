@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameJsonFile() throws Exception {
+        Path jsonPath = testFolder.resolve("ConnectEd.json");
+        Path binaryPath = testFolder.resolve("ConnectEd.bin");
+        Path convertedJsonPath = testFolder.resolve("Converted.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        assertEquals(original.getPersonList().size(), AddressBookFormatConverter.convert(
+                DataFileFormat.JSON, jsonPath, DataFileFormat.BINARY, binaryPath));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+
+        AddressBookFormatConverter.convert(DataFileFormat.BINARY, binaryPath, DataFileFormat.JSON, convertedJsonPath);
+        assertEquals(Files.readString(jsonPath), Files.readString(convertedJsonPath));
+    }
+
+    @Test
+    public void createStorage_mapped_readsBinaryFileByMapping() throws Exception {
+        Path binaryPath = testFolder.resolve("ConnectEd.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(original);
+
+        AddressBookStorage storage = AddressBookFormatConverter.createStorage(DataFileFormat.MAPPED, binaryPath);
+        assertTrue(storage instanceof MappedAddressBookStorage);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // a mapped file is saved in the binary format, so it can be converted back to JSON
+        Path jsonPath = testFolder.resolve("ConnectEd.json");
+        storage.saveAddressBook(original);
+        AddressBookFormatConverter.convert(DataFileFormat.MAPPED, binaryPath, DataFileFormat.JSON, jsonPath);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(jsonPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> AddressBookFormatConverter.convert(DataFileFormat.JSON,
+                testFolder.resolve("Missing.json"), DataFileFormat.BINARY, testFolder.resolve("ConnectEd.bin")));
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AtomicAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        AtomicAddressBookStorage storage = new AtomicAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(testFolder.resolve("ConnectEd.json.tmp")));
+    }
+
+    @Test
+    public void saveAddressBook_interruptedWrite_dataFileUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] savedBytes = Files.readAllBytes(filePath);
+        AtomicAddressBookStorage storage = new AtomicAddressBookStorage(new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                Files.write(filePath, "{\"persons\" : [".getBytes());
+                throw new IOException("Disk full");
+            }
+        });
+
+        assertThrows(IOException.class, () -> storage.saveAddressBook(new AddressBook()));
+        assertArrayEquals(savedBytes, Files.readAllBytes(filePath));
+    }
+
+    @Test
+    public void recoverAddressBook_noTemporaryFile_nothingRecovered() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        AtomicAddressBookStorage storage = new AtomicAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertFalse(storage.recoverAddressBook());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void recoverAddressBook_tornTemporaryFile_temporaryFileDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        Path temporaryPath = testFolder.resolve("ConnectEd.json.tmp");
+        AtomicAddressBookStorage storage = new AtomicAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(temporaryPath).saveAddressBook(new AddressBook());
+        byte[] newBytes = Files.readAllBytes(temporaryPath);
+        Files.write(temporaryPath, Arrays.copyOf(newBytes, newBytes.length / 2));
+
+        assertTrue(storage.recoverAddressBook());
+        assertFalse(Files.exists(temporaryPath));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void recoverAddressBook_completeTemporaryFile_replacesDataFile() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.bin");
+        Path temporaryPath = testFolder.resolve("ConnectEd.bin.tmp");
+        AtomicAddressBookStorage storage = new AtomicAddressBookStorage(new BinaryAddressBookStorage(filePath));
+        storage.saveAddressBook(new AddressBook());
+        new BinaryAddressBookStorage(temporaryPath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(storage.recoverAddressBook());
+        assertFalse(Files.exists(temporaryPath));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+}
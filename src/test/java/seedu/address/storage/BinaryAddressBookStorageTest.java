@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Price;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Subject;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("Missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_matchedPersonsWithSession_restoresMatchAndSession() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.bin");
+        AddressBook original = getTypicalAddressBook();
+        Person matchedAlice = new PersonBuilder(ALICE).build();
+        Person matchedDaniel = new PersonBuilder(DANIEL).build();
+        matchedAlice.setPersonId(ALICE.getPersonId());
+        matchedDaniel.setPersonId(DANIEL.getPersonId());
+        matchedAlice.setMatchedPerson(matchedDaniel);
+        matchedDaniel.setMatchedPerson(matchedAlice);
+        Session session = new Session(DayOfWeek.TUESDAY, LocalTime.of(15, 30), Duration.ofMinutes(90),
+                new Subject("science"), new Price(35, 35));
+        matchedAlice.setSession(session);
+        matchedDaniel.setSession(session);
+        original.setPerson(ALICE, matchedAlice);
+        original.setPerson(DANIEL, matchedDaniel);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        Person readAlice = readBack.getPersonList().stream()
+                .filter(person -> person.getPersonId() == ALICE.getPersonId()).findFirst().get();
+        assertEquals(DANIEL.getPersonId(), readAlice.getMatchedPerson().getPersonId());
+        assertEquals(readAlice, readAlice.getMatchedPerson().getMatchedPerson());
+        assertEquals(session, readAlice.getSession());
+        assertEquals(ALICE.getTags(), readAlice.getTags());
+    }
+
+    @Test
+    public void readAddressBook_corruptedByte_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 0x10;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readVarInt_writtenValues_sameValues() throws Exception {
+        int[] values = {0, 1, 127, 128, 300, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (int value : values) {
+            BinaryAddressBookStorage.writeVarInt(value, out);
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (int value : values) {
+            assertEquals(value, BinaryAddressBookStorage.readVarInt(in));
+        }
+        assertEquals(1 + 1 + 1 + 2 + 2 + 5 + 5 + 5, bytes.size());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ConnectEd.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
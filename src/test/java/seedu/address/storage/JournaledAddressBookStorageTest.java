@@ -0,0 +1,265 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileCompression;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.logic.commands.SessionDeleteCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Price;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Subject;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("Missing.json");
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changedPersons_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        // the first save writes a full snapshot
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+        String snapshot = Files.readString(filePath);
+
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        editedBenson.setPersonId(BENSON.getPersonId());
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+
+        // later saves only append to the journal
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_sessionDeleted_deletionSurvivesReopening() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        Model model = new ModelManager(getAddressBookWithSession(), new UserPrefs());
+        storage.saveAddressBook(model.getAddressBook());
+
+        new SessionDeleteCommand(Index.fromOneBased(1)).execute(model);
+        storage.saveAddressBook(model.getAddressBook());
+
+        assertEquals(2, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+        ReadOnlyAddressBook reopened = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        for (Person person : reopened.getPersonList().subList(0, 2)) {
+            assertEquals(null, person.getSession());
+            assertTrue(person.isMatched());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_reorderedPersons_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        original.sortPersons(Comparator.comparing(person -> person.getName().fullName, Comparator.reverseOrder()));
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void compact_journalPresent_foldsJournalIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        JournaledAddressBookStorage storage =
+                new JournaledAddressBookStorage(filePath, DataFileCompression.NONE, Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        storage.compact();
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getCompactingJournalPath(filePath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // saving continues to journal on top of the new snapshot
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactsInBackground() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, DataFileCompression.NONE, 0);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while ((Files.exists(journalPath)
+                || Files.exists(JournaledAddressBookStorage.getCompactingJournalPath(filePath)))
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastJournalEntry_ignoresEntry() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.writeString(journalPath, "{\"op\":\"put\",\"person\":{\"na", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+
+        // the next save replaces the damaged journal with a full snapshot
+        reopened.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_compressed_journalCompressedPerSave() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, DataFileCompression.FAST);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        assertTrue(CompressionUtil.isCompressed(filePath));
+        assertTrue(CompressionUtil.isCompressed(journalPath));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+
+        // a compressed journal is not appended to once compression is turned off
+        JournaledAddressBookStorage uncompressed = new JournaledAddressBookStorage(filePath);
+        uncompressed.readAddressBook();
+        original.removePerson(ALICE);
+        uncompressed.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertFalse(CompressionUtil.isCompressed(filePath));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedCompressedJournal_ignoresIncompleteEntry() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, DataFileCompression.SMALL);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        long completeLength = Files.size(journalPath);
+        AddressBook withIda = new AddressBook(original);
+        withIda.addPerson(IDA);
+        storage.saveAddressBook(withIda);
+        byte[] journal = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(journal, (int) (completeLength + journal.length) / 2));
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath, DataFileCompression.SMALL);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+
+        // the next save replaces the damaged journal with a full snapshot
+        reopened.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void readAddressBook_invalidJournalEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Files.writeString(JournaledAddressBookStorage.getJournalPath(filePath),
+                "{\"op\":\"rename\"}\n{\"op\":\"remove\",\"personId\":1}\n", StandardCharsets.UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("ConnectEd.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    /**
+     * Returns the typical address book preceded by a tutor and a student who are matched and share a session.
+     */
+    static AddressBook getAddressBookWithSession() {
+        Person tutor = new PersonBuilder().withRole("tutor").withName("Alice Tan").withPhone("91234567")
+                .withEmail("alice@tutors.com").withSubject("Mathematics").withPrice("40").build();
+        Person student = new PersonBuilder().withRole("student").withName("Bob Lee").withPhone("98765400")
+                .withEmail("bob@students.com").withSubject("Mathematics").withPrice("40").build();
+        Session session = new Session(DayOfWeek.MONDAY, LocalTime.of(14, 0), Duration.ofHours(2),
+                new Subject("Mathematics"), new Price(40, 40));
+        tutor.setMatchedPerson(student);
+        student.setMatchedPerson(tutor);
+        tutor.setSession(session);
+        student.setSession(session);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(tutor);
+        addressBook.addPerson(student);
+        getTypicalPersons().forEach(addressBook::addPerson);
+        return addressBook;
+    }
+}
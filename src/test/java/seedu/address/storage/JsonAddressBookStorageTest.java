@@ -2,8 +2,10 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -15,9 +17,15 @@ import java.nio.file.Paths;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.DataFileCompression;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +94,50 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_typicalAddressBook_sameContentAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath, DataFileCompression.SMALL).saveAddressBook(original);
+
+        assertTrue(CompressionUtil.isCompressed(filePath));
+        // compressed files are read whatever the compression chosen for saving
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath, DataFileCompression.FAST)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_matchedPersons_restoresMatches() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        Person matchedAlice = new PersonBuilder(ALICE).build();
+        Person matchedDaniel = new PersonBuilder(DANIEL).build();
+        matchedAlice.setPersonId(ALICE.getPersonId());
+        matchedDaniel.setPersonId(DANIEL.getPersonId());
+        matchedAlice.setMatchedPerson(matchedDaniel);
+        matchedDaniel.setMatchedPerson(matchedAlice);
+        original.setPerson(ALICE, matchedAlice);
+        original.setPerson(DANIEL, matchedDaniel);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        Person readAlice = readBack.getPersonList().stream()
+                .filter(person -> person.getPersonId() == ALICE.getPersonId()).findFirst().get();
+        assertEquals(DANIEL.getPersonId(), readAlice.getMatchedPerson().getPersonId());
+        assertEquals(readAlice, readAlice.getMatchedPerson().getMatchedPerson());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
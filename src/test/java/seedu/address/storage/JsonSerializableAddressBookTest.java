@@ -2,15 +2,23 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +27,11 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_ID_FILE =
+            TEST_DATA_FOLDER.resolve("duplicatePersonIdAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +57,83 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicatePersonIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_personsWithAndWithoutIds_keepFileOrder() throws Exception {
+        JsonSerializableAddressBook dataFromFile = new JsonSerializableAddressBook(Arrays.asList(
+                withPersonId("Amy Bee", "81111111", 0), withPersonId("Bob Choo", "82222222", 7),
+                withPersonId("Cat Dee", "83333333", 0)));
+        List<Person> persons = dataFromFile.toModelType().getPersonList();
+
+        assertEquals(List.of("Amy Bee", "Bob Choo", "Cat Dee"),
+                persons.stream().map(person -> person.getName().fullName).toList());
+        assertEquals(List.of(8, 7, 9), persons.stream().map(Person::getPersonId).toList());
+    }
+
+    @Test
+    public void toModelType_duplicateBeforeInvalidPerson_throwsDuplicateMessage() {
+        JsonAdaptedPerson invalidPerson = new JsonAdaptedPerson("student", "R@chel", "98765432",
+                "rachel@example.com", "Blk 1", "english", "3", "30", null, 0, null, null);
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(Arrays.asList(
+                new JsonAdaptedPerson(ALICE), new JsonAdaptedPerson(ALICE), invalidPerson));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                addressBook::toModelType);
+    }
+
+    @Test
+    public void readModelType_typicalPersonsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, ()
+                -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_duplicatePersonIds_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(DUPLICATE_PERSON_ID_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_ID, ()
+                -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_moreThanOneBatchOfPersons_allPersonsInOrder() throws Exception {
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 5000; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i)
+                    .withPhone(String.valueOf(60_000_000 + i)).withEmail("person" + i + "@example.com").build());
+        }
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            assertEquals(original, JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    private static JsonAdaptedPerson withPersonId(String name, String phone, int personId) {
+        return new JsonAdaptedPerson("student", name, phone, phone + "@example.com", "Blk 1", "english", "3", "30",
+                null, personId, null, null);
+    }
 }
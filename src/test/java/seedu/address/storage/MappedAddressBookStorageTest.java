@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class MappedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new MappedAddressBookStorage(testFolder.resolve("Missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_savedAddressBook_samePersonsInOrder() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.bin");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // files written by the non-mapped binary storage can be mapped too
+        original.addPerson(HOON);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_matchedPersons_restoresMatchOnFirstAccess() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.bin");
+        AddressBook original = getTypicalAddressBook();
+        Person matchedAlice = new PersonBuilder(ALICE).build();
+        Person matchedDaniel = new PersonBuilder(DANIEL).build();
+        matchedAlice.setPersonId(ALICE.getPersonId());
+        matchedDaniel.setPersonId(DANIEL.getPersonId());
+        matchedAlice.setMatchedPerson(matchedDaniel);
+        matchedDaniel.setMatchedPerson(matchedAlice);
+        original.setPerson(ALICE, matchedAlice);
+        original.setPerson(DANIEL, matchedDaniel);
+        new MappedAddressBookStorage(filePath).saveAddressBook(original);
+
+        List<Person> persons = new MappedAddressBookStorage(filePath).readAddressBook().get().getPersonList();
+        int alicePosition = original.getPersonList().indexOf(matchedAlice);
+        int danielPosition = original.getPersonList().indexOf(matchedDaniel);
+        Person readAlice = persons.get(alicePosition);
+        assertSame(persons.get(danielPosition), readAlice.getMatchedPerson());
+        assertSame(readAlice, persons.get(danielPosition).getMatchedPerson());
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecord_otherPersonsReadable() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.bin");
+        AddressBook original = getTypicalAddressBook();
+        new MappedAddressBookStorage(filePath).saveAddressBook(original);
+
+        // empty the name of the last person, after its flags and varint id
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int lastPosition = original.getPersonList().size() - 1;
+        int offset = buffer.getInt(buffer.getInt(bytes.length - 8) + 4 * lastPosition) + 1;
+        while ((bytes[offset] & 0x80) != 0) {
+            offset++;
+        }
+        bytes[offset + 1] = 0;
+        Files.write(filePath, bytes);
+
+        List<Person> persons = new MappedAddressBookStorage(filePath).readAddressBook().get().getPersonList();
+        assertEquals(original.getPersonList().get(0), persons.get(0));
+        assertThrows(IllegalStateException.class, () -> persons.get(lastPosition));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_overMappedFile_mappedAddressBookUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.bin");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        List<Person> mappedPersons = storage.readAddressBook().get().getPersonList();
+
+        storage.saveAddressBook(new AddressBook());
+
+        assertEquals(original.getPersonList(), mappedPersons);
+        assertEquals(0, storage.readAddressBook().get().getPersonList().size());
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.SessionDeleteCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final String UNTOUCHED_MARKER = "\n";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("Missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+        Path shardDirectory = ShardedAddressBookStorage.getShardDirectory(filePath);
+        assertTrue(Files.exists(shardDirectory.resolve("tutor-science.json")));
+        assertTrue(Files.exists(shardDirectory.resolve("student-mathematics.json")));
+
+        original.addPerson(HOON);
+        original.removePerson(BENSON);
+        List<Person> reversed = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reversed);
+        original.setPersons(reversed);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+        // the only mathematics tutor was removed, so that shard is gone
+        assertFalse(Files.exists(shardDirectory.resolve("tutor-mathematics.json")));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_onlyItsShardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Path shardDirectory = ShardedAddressBookStorage.getShardDirectory(filePath);
+        List<Path> shards;
+        try (Stream<Path> files = Files.list(shardDirectory)) {
+            shards = files.collect(Collectors.toList());
+        }
+        for (Path shard : shards) {
+            Files.write(shard, UNTOUCHED_MARKER.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        }
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        editedAlice.setPersonId(ALICE.getPersonId());
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook);
+
+        for (Path shard : shards) {
+            boolean isUntouched = new String(Files.readAllBytes(shard), StandardCharsets.UTF_8)
+                    .endsWith(UNTOUCHED_MARKER);
+            assertEquals(!shard.getFileName().toString().equals("tutor-science.json"), isUntouched);
+        }
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_sessionDeleted_deletionSurvivesReopening() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        Model model = new ModelManager(JournaledAddressBookStorageTest.getAddressBookWithSession(), new UserPrefs());
+        storage.saveAddressBook(model.getAddressBook());
+
+        new SessionDeleteCommand(Index.fromOneBased(1)).execute(model);
+        storage.saveAddressBook(model.getAddressBook());
+
+        ReadOnlyAddressBook reopened = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        for (Person person : reopened.getPersonList().subList(0, 2)) {
+            assertEquals(null, person.getSession());
+            assertTrue(person.isMatched());
+        }
+    }
+
+    @Test
+    public void readAddressBook_personsMatchedAcrossShards_restoresMatch() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        AddressBook original = getTypicalAddressBook();
+        Person matchedAlice = new PersonBuilder(ALICE).build();
+        Person matchedDaniel = new PersonBuilder(DANIEL).build();
+        matchedAlice.setPersonId(ALICE.getPersonId());
+        matchedDaniel.setPersonId(DANIEL.getPersonId());
+        matchedAlice.setMatchedPerson(matchedDaniel);
+        matchedDaniel.setMatchedPerson(matchedAlice);
+        original.setPerson(ALICE, matchedAlice);
+        original.setPerson(DANIEL, matchedDaniel);
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        Person readAlice = readBack.getPersonList().stream()
+                .filter(person -> person.getPersonId() == ALICE.getPersonId()).findFirst().get();
+        assertEquals(DANIEL.getPersonId(), readAlice.getMatchedPerson().getPersonId());
+        assertEquals(readAlice, readAlice.getMatchedPerson().getMatchedPerson());
+    }
+
+    @Test
+    public void readAddressBook_unshardedFile_shardedOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+
+        storage.saveAddressBook(readBack);
+        assertTrue(Files.isDirectory(ShardedAddressBookStorage.getShardDirectory(filePath)));
+        assertEquals(getTypicalAddressBook(), new AddressBook(new ShardedAddressBookStorage(filePath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ConnectEd.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.delete(ShardedAddressBookStorage.getShardDirectory(filePath).resolve("student-english.json"));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
@@ -60,6 +62,19 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void recoverAddressBook_atomicAddressBookStorage_recoversThroughIt() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        StorageManager atomicStorageManager = new StorageManager(
+                new AtomicAddressBookStorage(new JsonAddressBookStorage(filePath)),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        new JsonAddressBookStorage(filePath.resolveSibling("ab.tmp")).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(atomicStorageManager.recoverAddressBook());
+        assertEquals(getTypicalAddressBook(), new AddressBook(atomicStorageManager.readAddressBook().get()));
+        assertFalse(storageManager.recoverAddressBook());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
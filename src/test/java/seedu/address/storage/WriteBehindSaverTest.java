@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindSaverTest {
+
+    private static final Duration LONG_INTERVAL = Duration.ofHours(1);
+
+    private final RecordingStorage storage = new RecordingStorage();
+
+    @Test
+    public void flush_severalSubmissions_savesLatestOnce() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_INTERVAL);
+        AddressBook first = new AddressBook();
+        AddressBook latest = new AddressBook();
+        saver.submit(first);
+        saver.submit(latest);
+
+        saver.flush();
+        saver.flush();
+
+        assertEquals(1, storage.saved.size());
+        assertSame(latest, storage.saved.get(0));
+    }
+
+    @Test
+    public void submit_shortInterval_savesInBackground() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, Duration.ofMillis(1));
+        AddressBook addressBook = new AddressBook();
+        saver.submit(addressBook);
+
+        synchronized (storage) {
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (storage.saved.isEmpty() && System.currentTimeMillis() < deadline) {
+                storage.wait(100);
+            }
+        }
+        assertEquals(List.of(addressBook), storage.saved);
+    }
+
+    @Test
+    public void flush_saveFails_keepsSnapshotForNextSave() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_INTERVAL);
+        AddressBook addressBook = new AddressBook();
+        saver.submit(addressBook);
+        storage.failure = new IOException("disk full");
+
+        assertThrows(IOException.class, "disk full", saver::flush);
+        storage.failure = null;
+        saver.close();
+
+        assertEquals(List.of(addressBook), storage.saved);
+    }
+
+    @Test
+    public void takeFailure_backgroundSaveFailed_returnsFailureOnce() throws Exception {
+        storage.failure = new IOException("disk full");
+        WriteBehindSaver saver = new WriteBehindSaver(storage, Duration.ofMillis(1));
+        saver.submit(new AddressBook());
+
+        Optional<IOException> failure = Optional.empty();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (failure.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            failure = saver.takeFailure();
+        }
+        assertSame(storage.failure, failure.get());
+        assertTrue(saver.takeFailure().isEmpty());
+    }
+
+    /**
+     * Records the address books it is asked to save, or fails with {@code failure} if it is set.
+     */
+    private static class RecordingStorage implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private volatile IOException failure;
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(addressBook);
+            notifyAll();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}